@@ -0,0 +1,120 @@
+package com.teletrack360.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file against a stored baseline and exits non-zero when
+ * any benchmark got worse by more than the allowed percentage.
+ *
+ * <p>Usage: {@code BaselineComparison <result.json> <baseline.json> <max-regression-percent>}.
+ * A missing baseline is reported and skipped; to adopt the current run as the new
+ * baseline, copy the result file over it.
+ */
+public class BaselineComparison {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BaselineComparison <result.json> <baseline.json> <max-regression-percent>");
+            System.exit(2);
+        }
+        Path result = Path.of(args[0]);
+        Path baseline = Path.of(args[1]);
+        double maxRegressionPercent = Double.parseDouble(args[2]);
+
+        if (!Files.exists(baseline)) {
+            System.out.printf("No benchmark baseline at %s; skipping comparison.%n", baseline);
+            System.out.printf("To record one: cp %s %s%n", result, baseline);
+            return;
+        }
+
+        List<Comparison> comparisons = compare(read(result), read(baseline));
+        boolean regressed = false;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Comparison comparison : comparisons) {
+            boolean failed = comparison.getRegressionPercent() > maxRegressionPercent;
+            regressed |= failed;
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n",
+                    comparison.getKey(),
+                    comparison.getBaselineScore(),
+                    comparison.getCurrentScore(),
+                    comparison.getRegressionPercent(),
+                    failed ? "  REGRESSION" : "");
+        }
+        if (regressed) {
+            System.err.printf("Benchmarks regressed by more than %.1f%% against %s%n", maxRegressionPercent, baseline);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Pairs benchmarks present in both runs. A positive regression percentage means the
+     * current run is worse, whichever direction the benchmark mode treats as better.
+     */
+    static List<Comparison> compare(Map<String, Score> current, Map<String, Score> baseline) {
+        List<Comparison> comparisons = new ArrayList<>();
+        current.forEach((key, score) -> {
+            Score previous = baseline.get(key);
+            if (previous == null || previous.getValue() == 0) {
+                return;
+            }
+            double change = (score.getValue() - previous.getValue()) / previous.getValue() * 100;
+            double regression = score.isHigherIsBetter() ? -change : change;
+            comparisons.add(new Comparison(key, previous.getValue(), score.getValue(), regression));
+        });
+        return comparisons;
+    }
+
+    static Map<String, Score> read(Path file) throws IOException {
+        return parse(OBJECT_MAPPER.readTree(file.toFile()));
+    }
+
+    static Map<String, Score> parse(JsonNode results) {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : results) {
+            String mode = run.path("mode").asText();
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText()).append(" [").append(mode);
+            Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            key.append(']');
+            scores.put(key.toString(), new Score(
+                    run.path("primaryMetric").path("score").asDouble(),
+                    "thrpt".equals(mode)
+            ));
+        }
+        return scores;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Score {
+        private final double value;
+        /** Throughput scores improve upwards, time-per-op scores downwards */
+        private final boolean higherIsBetter;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Comparison {
+        private final String key;
+        private final double baselineScore;
+        private final double currentScore;
+        private final double regressionPercent;
+    }
+}
@@ -0,0 +1,50 @@
+package com.teletrack360.benchmarks.common;
+
+import com.teletrack360.common.dto.PageResponse;
+import com.teletrack360.common.util.CorrelationIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared helpers called on every list response and every published event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommonUtilsBenchmark {
+
+    private List<String> content;
+
+    @Setup
+    public void setUp() {
+        content = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            content.add("incident-" + i);
+        }
+    }
+
+    @Benchmark
+    public PageResponse<String> pageResponseOf() {
+        return PageResponse.of(content, 3, 20, 1_234);
+    }
+
+    @Benchmark
+    public String correlationIdGenerate() {
+        return CorrelationIdGenerator.generate();
+    }
+}
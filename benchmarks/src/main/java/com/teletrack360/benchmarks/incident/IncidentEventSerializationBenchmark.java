@@ -0,0 +1,115 @@
+package com.teletrack360.benchmarks.incident;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.common.kafka.IncidentEventDeserializer;
+import com.teletrack360.incident.kafka.IncidentEventSerializer;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of {@link IncidentEvent} as written to the outbox, and decoding
+ * back into the typed event; and the Kafka record encodings, Avro and JSON, as the
+ * consumers read them into the same typed event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncidentEventSerializationBenchmark {
+
+    // Same settings Spring Boot applies to the application ObjectMapper
+    private static final String TOPIC = "incident-assigned";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final IncidentEventSerializer avroSerializer = new IncidentEventSerializer();
+    private final IncidentEventDeserializer deserializer = new IncidentEventDeserializer();
+
+    private IncidentEvent event;
+    private String json;
+    private byte[] jsonRecord;
+    private byte[] avroRecord;
+    private Headers avroHeaders;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        event = sampleEvent();
+        json = objectMapper.writeValueAsString(event);
+
+        IncidentEventSerializer jsonSerializer = new IncidentEventSerializer();
+        jsonSerializer.configure(Map.of(IncidentEventSerializer.ENCODING_CONFIG, "json"), false);
+        jsonRecord = jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+        avroHeaders = new RecordHeaders();
+        avroRecord = avroSerializer.serialize(TOPIC, avroHeaders, event);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public IncidentEvent deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(json, IncidentEvent.class);
+    }
+
+    @Benchmark
+    public byte[] serializeAvroRecord() {
+        return avroSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public IncidentEvent deserializeAvroRecord() {
+        return deserializer.deserialize(TOPIC, avroHeaders, avroRecord);
+    }
+
+    @Benchmark
+    public IncidentEvent deserializeJsonRecord() {
+        return deserializer.deserialize(TOPIC, new RecordHeaders(), jsonRecord);
+    }
+
+    public static IncidentEvent sampleEvent() {
+        return IncidentEvent.builder()
+                .eventId("6f1c8a52-3d0e-4a8b-9c61-2f7e5d4b3a10")
+                .eventType("INCIDENT_ASSIGNED")
+                .timestamp(LocalDateTime.of(2024, 1, 15, 9, 42, 7))
+                .payload(IncidentEvent.IncidentEventPayload.builder()
+                        .incidentId(42L)
+                        .title("Core router packet loss in region EU-West")
+                        .status(IncidentStatus.IN_PROGRESS)
+                        .priority(IncidentPriority.HIGH)
+                        .assignedTo("network.engineer")
+                        .createdBy("noc.operator")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.teletrack360.benchmarks.notification;
+
+import com.teletrack360.benchmarks.incident.IncidentEventSerializationBenchmark;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.common.kafka.IncidentEventDeserializer;
+import com.teletrack360.incident.kafka.IncidentEventSerializer;
+import com.teletrack360.notification.consumer.IncidentEventConsumer;
+import com.teletrack360.notification.consumer.KeyedExecutor;
+import com.teletrack360.notification.dto.NotificationMessage;
+import com.teletrack360.notification.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One poll of the notification consumer: decoding record values in either encoding into
+ * {@link IncidentEvent} through the consumer's deserializer, then rendering them through
+ * the real batch listener and its key lanes. Persistence is replaced by a sink so only
+ * decoding, rendering and the hand-off between threads are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncidentEventConsumerBenchmark {
+
+    private static final String TOPIC = "incident-events";
+
+    @Param({"1", "500"})
+    public int batchSize;
+
+    @Param({"avro", "json"})
+    public String encoding;
+
+    private final IncidentEventDeserializer deserializer = new IncidentEventDeserializer();
+
+    private byte[] value;
+    private Headers headers;
+    private List<ConsumerRecord<String, IncidentEvent>> decoded;
+    private KeyedExecutor keyedExecutor;
+    private IncidentEventConsumer consumer;
+    private SinkNotificationService sink;
+
+    @Setup
+    public void setUp() {
+        IncidentEventSerializer serializer = new IncidentEventSerializer();
+        serializer.configure(Map.of(IncidentEventSerializer.ENCODING_CONFIG, encoding), false);
+        headers = new RecordHeaders();
+        value = serializer.serialize(TOPIC, headers, IncidentEventSerializationBenchmark.sampleEvent());
+        decoded = decode();
+        sink = new SinkNotificationService();
+        keyedExecutor = new KeyedExecutor(new SimpleMeterRegistry(), 8, 8);
+        consumer = new IncidentEventConsumer(sink, keyedExecutor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        keyedExecutor.shutdown();
+    }
+
+    @Benchmark
+    public List<ConsumerRecord<String, IncidentEvent>> decode() {
+        List<ConsumerRecord<String, IncidentEvent>> events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            events.add(record(i, deserializer.deserialize(TOPIC, headers, value)));
+        }
+        return events;
+    }
+
+    @Benchmark
+    public void render(Blackhole blackhole) {
+        sink.blackhole = blackhole;
+        consumer.handleIncidentEvents(decoded, () -> { });
+    }
+
+    @Benchmark
+    public void decodeAndRender(Blackhole blackhole) {
+        sink.blackhole = blackhole;
+        consumer.handleIncidentEvents(decode(), () -> { });
+    }
+
+    // One incident per record, spread over the partitions of a six-partition topic
+    private ConsumerRecord<String, IncidentEvent> record(int offset, IncidentEvent event) {
+        return new ConsumerRecord<>(TOPIC, offset % 6, offset, 0L, TimestampType.CREATE_TIME,
+                0, value.length, String.valueOf(offset), event, headers, Optional.empty());
+    }
+
+    private static class SinkNotificationService extends NotificationService {
+
+        private Blackhole blackhole;
+
+        SinkNotificationService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public synchronized void sendEmailNotifications(List<NotificationMessage> messages) {
+            blackhole.consume(messages);
+        }
+    }
+}
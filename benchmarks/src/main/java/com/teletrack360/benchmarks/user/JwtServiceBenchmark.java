@@ -0,0 +1,88 @@
+package com.teletrack360.benchmarks.user;
+
+import com.teletrack360.user.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of issuing and validating access tokens. The legacy variant replays
+ * the original implementation (key and parser rebuilt per call, token parsed three times)
+ * next to the single-parse path used by {@link com.teletrack360.user.filter.JwtAuthenticationFilter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000L, 86_400_000L);
+        userDetails = User.withUsername("benchmark.user")
+                .password("n/a")
+                .roles("OPERATOR")
+                .build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean legacyExtractThenValidate() {
+        String username = legacyExtractAllClaims(token).getSubject();
+        return username.equals(userDetails.getUsername())
+                && legacyExtractAllClaims(token).getSubject().equals(userDetails.getUsername())
+                && !legacyExtractAllClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean validateTokenString() {
+        return jwtService.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public boolean parseOnceThenValidate() {
+        return jwtService.parseToken(token)
+                .map(verified -> jwtService.validateToken(verified, userDetails))
+                .orElse(false);
+    }
+
+    // Replica of the previous JwtService internals, kept only as the benchmark baseline
+    private static Claims legacyExtractAllClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
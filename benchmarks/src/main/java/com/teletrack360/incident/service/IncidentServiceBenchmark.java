@@ -0,0 +1,106 @@
+package com.teletrack360.incident.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.incident.dto.IncidentResponse;
+import com.teletrack360.incident.entity.Incident;
+import com.teletrack360.incident.kafka.IncidentEventProducer;
+import com.teletrack360.incident.repository.IncidentAuditRepository;
+import com.teletrack360.incident.repository.IncidentRepository;
+import com.teletrack360.incident.repository.IncidentSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO and entity-to-event mapping done on every incident read and write.
+ * Lives in the service's package so it can call the package-private mappers directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncidentServiceBenchmark {
+
+    private IncidentService incidentService;
+    private Incident incident;
+
+    @Setup
+    public void setUp() {
+        // The mappers touch none of the collaborators; any database access would fail loudly
+        DataSource dataSource = unsupported(DataSource.class);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        incidentService = new IncidentService(
+                unsupported(IncidentRepository.class),
+                new IncidentSearchRepository(new NamedParameterJdbcTemplate(dataSource)),
+                new IncidentResponseCache(meterRegistry, 100, Duration.ofMinutes(1)),
+                new IncidentEventProducer(jdbcTemplate, objectMapper, "unified"),
+                new IncidentAuditWriter(jdbcTemplate, objectMapper, unsupported(PlatformTransactionManager.class),
+                        meterRegistry, 100, 10, 200, 50),
+                unsupported(IncidentAuditRepository.class));
+        incident = sampleIncident();
+    }
+
+    @Benchmark
+    public IncidentResponse mapToResponse() {
+        return incidentService.mapToResponse(incident);
+    }
+
+    @Benchmark
+    public IncidentEvent buildEvent() {
+        return incidentService.buildEvent("INCIDENT_ASSIGNED", incident);
+    }
+
+    /**
+     * A collaborator the benchmark must never call
+     */
+    private static <T> T unsupported(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + " stub";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(
+                            type.getSimpleName() + "." + method.getName() + " is not used by the benchmark");
+                }));
+    }
+
+    static Incident sampleIncident() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 9, 30);
+        return Incident.builder()
+                .id(42L)
+                .title("Core router packet loss in region EU-West")
+                .description("Intermittent packet loss observed on core router cr-01 affecting voice traffic.")
+                .status(IncidentStatus.IN_PROGRESS)
+                .priority(IncidentPriority.HIGH)
+                .assignedTo("network.engineer")
+                .createdBy("noc.operator")
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusMinutes(12))
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.teletrack360.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaselineComparisonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compare_SlowerAverageTime_ReportsPositiveRegression() throws Exception {
+        // Arrange
+        Map<String, BaselineComparison.Score> baseline = BaselineComparison.parse(result("avgt", 100.0));
+        Map<String, BaselineComparison.Score> current = BaselineComparison.parse(result("avgt", 125.0));
+
+        // Act
+        List<BaselineComparison.Comparison> comparisons = BaselineComparison.compare(current, baseline);
+
+        // Assert
+        assertEquals(1, comparisons.size());
+        assertEquals("a.B.run [avgt, batchSize=500]", comparisons.get(0).getKey());
+        assertEquals(25.0, comparisons.get(0).getRegressionPercent(), 0.0001);
+    }
+
+    @Test
+    void compare_HigherThroughput_ReportsImprovement() throws Exception {
+        // Arrange
+        Map<String, BaselineComparison.Score> baseline = BaselineComparison.parse(result("thrpt", 100.0));
+        Map<String, BaselineComparison.Score> current = BaselineComparison.parse(result("thrpt", 125.0));
+
+        // Act
+        List<BaselineComparison.Comparison> comparisons = BaselineComparison.compare(current, baseline);
+
+        // Assert
+        assertEquals(-25.0, comparisons.get(0).getRegressionPercent(), 0.0001);
+    }
+
+    private JsonNode result(String mode, double score) throws Exception {
+        return objectMapper.readTree("""
+                [{"benchmark": "a.B.run", "mode": "%s", "params": {"batchSize": "500"},
+                  "primaryMetric": {"score": %s, "scoreUnit": "us/op"}}]
+                """.formatted(mode, score));
+    }
+}
@@ -0,0 +1,103 @@
+package com.teletrack360.gateway.filter;
+
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import com.teletrack360.gateway.security.GatewayAuthProperties;
+import com.teletrack360.gateway.security.JwtVerifier;
+import com.teletrack360.gateway.security.VerifiedPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Validates bearer tokens once at the edge and forwards the verified identity
+ * as signed {@link GatewayAuthHeaders}. Identity headers supplied by clients are
+ * always stripped so they cannot be spoofed through the gateway.
+ */
+@Component
+@Slf4j
+public class JwtAuthenticationGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtVerifier jwtVerifier;
+    private final List<PathPattern> publicPaths;
+    private final Counter rejected;
+
+    public JwtAuthenticationGlobalFilter(
+            JwtVerifier jwtVerifier,
+            MeterRegistry meterRegistry,
+            GatewayAuthProperties properties
+    ) {
+        this.jwtVerifier = jwtVerifier;
+        this.publicPaths = properties.getPublicPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.rejected = Counter.builder("gateway.auth.rejected")
+                .description("Requests rejected at the gateway because of an invalid bearer token")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(withIdentity(exchange, null));
+        }
+
+        Optional<VerifiedPrincipal> principal = jwtVerifier.verify(authHeader.substring(BEARER_PREFIX.length()));
+        if (principal.isEmpty()) {
+            if (isPublic(request)) {
+                // e.g. a refresh call carrying a stale access token
+                return chain.filter(withIdentity(exchange, null));
+            }
+            rejected.increment();
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+
+        return chain.filter(withIdentity(exchange, principal.get()));
+    }
+
+    private ServerWebExchange withIdentity(ServerWebExchange exchange, VerifiedPrincipal principal) {
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    GatewayAuthHeaders.ALL.forEach(headers::remove);
+                    if (principal != null) {
+                        headers.set(GatewayAuthHeaders.USERNAME, principal.getUsername());
+                        headers.set(GatewayAuthHeaders.ROLES, principal.getRoles());
+                        headers.set(GatewayAuthHeaders.EXPIRES, String.valueOf(principal.getExpiresAtMillis()));
+                        headers.set(GatewayAuthHeaders.SIGNATURE, principal.getSignature());
+                    }
+                })
+                .build();
+        return exchange.mutate().request(request).build();
+    }
+
+    private boolean isPublic(ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        return publicPaths.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    public int getOrder() {
+        // Before routing and any route filters that might depend on the caller identity
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+}
@@ -0,0 +1,89 @@
+package com.teletrack360.gateway.loadshedding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-route concurrency limit that follows downstream latency, in the spirit of a
+ * gradient limiter: while smoothed latency stays within {@code latencyTolerance} of
+ * the baseline the limit grows, and it shrinks proportionally once latency rises,
+ * so excess requests are refused before they queue on a saturated connection pool.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private static final double RTT_SMOOTHING = 0.1;
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double BASELINE_DRIFT = 0.1;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final LoadSheddingProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    // Guarded by this
+    private double smoothedRttNanos;
+    private double baselineRttNanos;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    AdaptiveConcurrencyLimit(LoadSheddingProperties properties) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+    }
+
+    boolean tryAcquire(boolean critical) {
+        double threshold = critical ? limit : limit * (1 - properties.getCriticalShare());
+        if (inFlight.incrementAndGet() > threshold) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    void release(long rttNanos) {
+        // Sampled before releasing so in-flight reflects the load the sample saw
+        onSample(rttNanos);
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void onSample(long rttNanos) {
+        if (baselineRttNanos == 0) {
+            baselineRttNanos = rttNanos;
+            smoothedRttNanos = rttNanos;
+        }
+        smoothedRttNanos += (rttNanos - smoothedRttNanos) * RTT_SMOOTHING;
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+
+        if (++windowSamples >= properties.getBaselineWindow()) {
+            // Follow an improved baseline at once, a worse one only slowly
+            baselineRttNanos = windowMinRttNanos < baselineRttNanos
+                    ? windowMinRttNanos
+                    : baselineRttNanos + (windowMinRttNanos - baselineRttNanos) * BASELINE_DRIFT;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT,
+                Math.min(1.0, properties.getLatencyTolerance() * baselineRttNanos / smoothedRttNanos));
+        if (gradient == 1.0 && inFlight.get() < current / 2) {
+            // Not using the limit we have, so latency says nothing about a higher one
+            return;
+        }
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING;
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), next));
+    }
+
+    double getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
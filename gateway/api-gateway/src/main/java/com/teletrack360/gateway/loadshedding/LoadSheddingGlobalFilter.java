@@ -0,0 +1,139 @@
+package com.teletrack360.gateway.loadshedding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Sheds load with 503 once a route's adaptive concurrency limit is reached.
+ * Critical requests (incident create/assign/status by default) may use the full
+ * limit, everything else only the non-reserved part of it. Excluded requests, such as
+ * the incident event stream, would hold a slot for their whole lifetime and skew the
+ * latency baseline, so they bypass the limit.
+ */
+@Component
+@Slf4j
+public class LoadSheddingGlobalFilter implements GlobalFilter, Ordered {
+
+    private final LoadSheddingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<RequestPattern> criticalRequests;
+    private final List<RequestPattern> excludedRequests;
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> shedCounters = new ConcurrentHashMap<>();
+
+    public LoadSheddingGlobalFilter(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.criticalRequests = properties.getCriticalRequests().stream()
+                .map(RequestPattern::parse)
+                .toList();
+        this.excludedRequests = properties.getExcludedRequests().stream()
+                .map(RequestPattern::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null || matchesAny(excludedRequests, exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+
+        AdaptiveConcurrencyLimit limit = limits.computeIfAbsent(route.getId(), this::newLimit);
+        if (!limit.tryAcquire(matchesAny(criticalRequests, exchange.getRequest()))) {
+            shedCounters.computeIfAbsent(route.getId(), this::newShedCounter).increment();
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return exchange.getResponse().setComplete();
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        // Client went away; the elapsed time says nothing about downstream latency
+                        limit.release();
+                    } else {
+                        limit.release(System.nanoTime() - start);
+                    }
+                });
+    }
+
+    private static boolean matchesAny(List<RequestPattern> patterns, ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        return patterns.stream().anyMatch(pattern -> pattern.matches(request.getMethod(), path));
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(String routeId) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+        Gauge.builder("gateway.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requests currently forwarded downstream")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return limit;
+    }
+
+    private Counter newShedCounter(String routeId) {
+        return Counter.builder("gateway.concurrency.shed")
+                .description("Requests rejected with 503 because the route was at its concurrency limit")
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        // After route filters such as RequestRateLimiter, so rate-limited calls never hold a slot,
+        // and before routing, so the measured time is the downstream round trip
+        return 1000;
+    }
+
+    private static class RequestPattern {
+
+        private final HttpMethod method;
+        private final PathPattern pattern;
+
+        private RequestPattern(HttpMethod method, PathPattern pattern) {
+            this.method = method;
+            this.pattern = pattern;
+        }
+
+        static RequestPattern parse(String spec) {
+            String[] parts = spec.trim().split("\\s+", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Request pattern must be 'METHOD /path', got: " + spec);
+            }
+            return new RequestPattern(HttpMethod.valueOf(parts[0]), PathPatternParser.defaultInstance.parse(parts[1]));
+        }
+
+        boolean matches(HttpMethod requestMethod, PathContainer path) {
+            return method.equals(requestMethod) && pattern.matches(path);
+        }
+    }
+}
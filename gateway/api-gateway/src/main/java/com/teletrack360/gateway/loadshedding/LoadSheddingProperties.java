@@ -0,0 +1,38 @@
+package com.teletrack360.gateway.loadshedding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    /** Concurrent requests allowed per route before any latency has been observed */
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 40;
+
+    /** How far smoothed latency may rise above the baseline before the limit shrinks */
+    private double latencyTolerance = 2.0;
+
+    /** Share of each route's limit that only critical requests may use */
+    private double criticalShare = 0.25;
+
+    /** Samples after which the baseline latency is re-evaluated */
+    private int baselineWindow = 500;
+
+    /** Requests that keep the reserved share, as {@code METHOD /path/pattern} */
+    private List<String> criticalRequests = new ArrayList<>();
+
+    /** Long-lived requests such as event streams that never count against the limit, same format */
+    private List<String> excludedRequests = new ArrayList<>();
+}
@@ -0,0 +1,106 @@
+package com.teletrack360.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket {@link org.springframework.cloud.gateway.filter.ratelimit.RateLimiter}
+ * kept in gateway memory, one bucket per route and caller.
+ *
+ * <p>Configured per route through the {@code RequestRateLimiter} filter with
+ * {@code in-memory-rate-limiter.*} args, mirroring the Redis limiter's settings, so a
+ * route can switch to a shared store by pointing {@code rate-limiter} at another bean.
+ */
+@Component
+@Primary
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private final Config defaultConfig;
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InMemoryRateLimiter(
+            ConfigurationService configurationService,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.rate-limit.default-replenish-rate:50}") int defaultReplenishRate,
+            @Value("${gateway.rate-limit.default-burst-capacity:100}") long defaultBurstCapacity,
+            @Value("${gateway.rate-limit.maximum-buckets:100000}") long maximumBuckets,
+            @Value("${gateway.rate-limit.idle-bucket-ttl:10m}") Duration idleBucketTtl
+    ) {
+        this(configurationService, meterRegistry, defaultReplenishRate, defaultBurstCapacity, maximumBuckets,
+                idleBucketTtl, System::nanoTime);
+    }
+
+    InMemoryRateLimiter(ConfigurationService configurationService, MeterRegistry meterRegistry,
+                        int defaultReplenishRate, long defaultBurstCapacity, long maximumBuckets,
+                        Duration idleBucketTtl, LongSupplier nanoClock) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.nanoClock = nanoClock;
+        this.defaultConfig = new Config();
+        this.defaultConfig.setReplenishRate(defaultReplenishRate);
+        this.defaultConfig.setBurstCapacity(defaultBurstCapacity);
+        // A bucket idle for longer than it takes to refill is indistinguishable from a new one
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(idleBucketTtl)
+                .ticker(nanoClock::getAsLong)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets");
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(routeId + ':' + id, key -> new TokenBucket(config.getBurstCapacity(), now));
+        long remaining = bucket.tryConsume(
+                config.getRequestedTokens(), config.getReplenishRate(), config.getBurstCapacity(), now);
+
+        return Mono.just(new Response(remaining >= 0, Map.of(
+                REMAINING_HEADER, String.valueOf(Math.max(remaining, 0)),
+                REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+                BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity())
+        )));
+    }
+
+    @Data
+    @Validated
+    public static class Config {
+
+        /** Tokens added per second */
+        @Min(1)
+        private int replenishRate;
+
+        /** Maximum tokens a bucket can hold, i.e. the largest allowed burst */
+        @Min(1)
+        private long burstCapacity;
+
+        /** Tokens each request costs */
+        @Min(1)
+        private int requestedTokens = 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.teletrack360.gateway.ratelimit;
+
+/**
+ * Lazily refilled token bucket: tokens are topped up from elapsed time on each
+ * attempt, so idle buckets cost nothing.
+ */
+class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(long capacity, long nowNanos) {
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * @return tokens left after consuming, or -1 if not enough were available
+     */
+    synchronized long tryConsume(int requested, int replenishRate, long capacity, long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + (double) elapsed * replenishRate / NANOS_PER_SECOND);
+            lastRefillNanos = nowNanos;
+        }
+        if (tokens < requested) {
+            return -1;
+        }
+        tokens -= requested;
+        return (long) tokens;
+    }
+}
@@ -0,0 +1,27 @@
+package com.teletrack360.gateway.ratelimit;
+
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Rate-limit key: the username verified by the JWT filter, or the client
+ * address for anonymous calls such as login.
+ */
+@Component("userKeyResolver")
+public class UserKeyResolver implements KeyResolver {
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        String username = exchange.getRequest().getHeaders().getFirst(GatewayAuthHeaders.USERNAME);
+        if (username != null) {
+            return Mono.just("user:" + username);
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return Mono.just("ip:" + (remoteAddress != null ? remoteAddress.getHostString() : "unknown"));
+    }
+}
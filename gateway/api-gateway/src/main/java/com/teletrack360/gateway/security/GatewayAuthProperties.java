@@ -0,0 +1,17 @@
+package com.teletrack360.gateway.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gateway.auth")
+public class GatewayAuthProperties {
+
+    /** Paths where an invalid bearer token is ignored instead of rejected; a YAML list or comma-separated */
+    private List<String> publicPaths = new ArrayList<>(List.of("/api/v1/auth/**"));
+}
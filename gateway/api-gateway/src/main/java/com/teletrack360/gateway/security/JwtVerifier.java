@@ -0,0 +1,139 @@
+package com.teletrack360.gateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies HS256 access tokens and caches the outcome by token hash until the
+ * token expires, so repeated requests with the same token skip signature checks.
+ */
+@Component
+@Slf4j
+public class JwtVerifier {
+
+    private static final String ROLES_CLAIM = "roles";
+
+    private final JwtParser parser;
+    private final GatewayAuthHeaders authHeaders;
+    private final Cache<String, VerifiedPrincipal> cache;
+
+    public JwtVerifier(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") String secret,
+            @Value("${gateway.auth.cache.maximum-size:100000}") long maximumSize
+    ) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.authHeaders = new GatewayAuthHeaders(secret);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayJwt");
+    }
+
+    /**
+     * @return the verified principal, or empty if the token is malformed, forged or expired
+     */
+    public Optional<VerifiedPrincipal> verify(String token) {
+        // Keyed by hash so raw bearer tokens are never retained in memory
+        String key = sha256(token);
+        VerifiedPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            // Entries may outlive the token by up to one cache maintenance cycle
+            return cached.getExpiresAtMillis() > System.currentTimeMillis()
+                    ? Optional.of(cached)
+                    : Optional.empty();
+        }
+
+        Optional<VerifiedPrincipal> verified = parse(token);
+        verified.ifPresent(principal -> cache.put(key, principal));
+        return verified;
+    }
+
+    private Optional<VerifiedPrincipal> parse(String token) {
+        try {
+            Jws<Claims> jws = parser.parseSignedClaims(token);
+            // Only HS256 is issued; refuse tokens re-signed with other HMAC variants
+            if (!Jwts.SIG.HS256.getId().equals(jws.getHeader().getAlgorithm())) {
+                return Optional.empty();
+            }
+            Claims claims = jws.getPayload();
+            Date expiration = claims.getExpiration();
+            if (claims.getSubject() == null || expiration == null) {
+                return Optional.empty();
+            }
+            String roles = rolesOf(claims.get(ROLES_CLAIM));
+            long expiresAt = expiration.getTime();
+            return Optional.of(new VerifiedPrincipal(
+                    claims.getSubject(),
+                    roles,
+                    expiresAt,
+                    authHeaders.sign(claims.getSubject(), roles, expiresAt)
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Token rejected at gateway: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String rolesOf(Object claim) {
+        if (claim instanceof Collection<?> values) {
+            return values.stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+        return claim == null ? "" : claim.toString();
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedPrincipal value, long currentTime) {
+            long remainingMillis = value.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
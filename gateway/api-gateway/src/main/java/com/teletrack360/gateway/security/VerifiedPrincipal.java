@@ -0,0 +1,18 @@
+package com.teletrack360.gateway.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Identity extracted from a verified access token, together with the
+ * signature of the trusted headers forwarded to downstream services.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedPrincipal {
+
+    private final String username;
+    private final String roles;
+    private final long expiresAtMillis;
+    private final String signature;
+}
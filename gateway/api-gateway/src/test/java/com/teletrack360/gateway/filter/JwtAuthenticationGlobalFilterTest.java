@@ -0,0 +1,112 @@
+package com.teletrack360.gateway.filter;
+
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import com.teletrack360.gateway.security.GatewayAuthProperties;
+import com.teletrack360.gateway.security.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationGlobalFilterTest {
+
+    private static final String SECRET = "TestSecretKeyForJWTTokenGenerationAndValidationPurposesOnly";
+
+    private JwtAuthenticationGlobalFilter filter;
+    private AtomicReference<ServerWebExchange> forwarded;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtVerifier verifier = new JwtVerifier(meterRegistry, SECRET, 1000);
+        GatewayAuthProperties properties = new GatewayAuthProperties();
+        properties.setPublicPaths(List.of("/api/v1/auth/**"));
+        filter = new JwtAuthenticationGlobalFilter(verifier, meterRegistry, properties);
+        forwarded = new AtomicReference<>();
+        chain = exchange -> {
+            forwarded.set(exchange);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void filter_ValidToken_ForwardsSignedIdentityAndStripsSpoofedHeaders() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/v1/incidents")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("operator", SECRET))
+                .header(GatewayAuthHeaders.ROLES, "ROLE_ADMIN"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        ServerHttpRequest request = forwarded.get().getRequest();
+        HttpHeaders headers = request.getHeaders();
+        assertEquals("operator", headers.getFirst(GatewayAuthHeaders.USERNAME));
+        assertEquals("ROLE_OPERATOR", headers.getFirst(GatewayAuthHeaders.ROLES));
+        assertTrue(new GatewayAuthHeaders(SECRET).verify(
+                headers.getFirst(GatewayAuthHeaders.USERNAME),
+                headers.getFirst(GatewayAuthHeaders.ROLES),
+                headers.getFirst(GatewayAuthHeaders.EXPIRES),
+                headers.getFirst(GatewayAuthHeaders.SIGNATURE)));
+    }
+
+    @Test
+    void filter_ForgedToken_RejectsProtectedRoute() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/v1/incidents")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("operator", SECRET + "-forged")));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertNull(forwarded.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void filter_ForgedTokenOnPublicRoute_ForwardsWithoutIdentity() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("/api/v1/auth/refresh")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("operator", SECRET + "-forged"))
+                .header(GatewayAuthHeaders.USERNAME, "admin"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertNotNull(forwarded.get());
+        assertNull(forwarded.get().getRequest().getHeaders().getFirst(GatewayAuthHeaders.USERNAME));
+    }
+
+    private String token(String username, String secret) {
+        return Jwts.builder()
+                .subject(username)
+                .claim("roles", List.of("ROLE_OPERATOR"))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+}
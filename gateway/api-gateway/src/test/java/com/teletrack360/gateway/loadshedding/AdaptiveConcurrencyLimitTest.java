@@ -0,0 +1,80 @@
+package com.teletrack360.gateway.loadshedding;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private LoadSheddingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoadSheddingProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(40);
+        properties.setCriticalShare(0.25);
+    }
+
+    @Test
+    void tryAcquire_AtReservedShare_OnlyAdmitsCriticalRequests() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+        for (int i = 0; i < 15; i++) {
+            assertTrue(limit.tryAcquire(false));
+        }
+
+        // Act & Assert
+        assertFalse(limit.tryAcquire(false));
+        assertTrue(limit.tryAcquire(true));
+        assertEquals(16, limit.getInFlight());
+    }
+
+    @Test
+    void release_LatencyRisesUnderLoad_ShrinksLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+        saturate(limit);
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire(true);
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        double healthy = limit.getLimit();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            limit.tryAcquire(true);
+            limit.release(TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() < healthy);
+        assertEquals(properties.getMinLimit(), limit.getLimit(), 0.5);
+    }
+
+    @Test
+    void release_IdleRouteWithLowLatency_DoesNotGrowLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire(false);
+            limit.release(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+
+        // Assert
+        assertEquals(properties.getInitialLimit(), limit.getLimit(), 0.0001);
+    }
+
+    private void saturate(AdaptiveConcurrencyLimit limit) {
+        // Keep enough requests in flight that samples count as evidence about the limit
+        for (int i = 0; i < 12; i++) {
+            limit.tryAcquire(true);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.teletrack360.gateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class InMemoryRateLimiterTest {
+
+    private static final String ROUTE = "incident-service";
+
+    private AtomicLong nanoTime;
+    private InMemoryRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong();
+        rateLimiter = new InMemoryRateLimiter(mock(ConfigurationService.class), new SimpleMeterRegistry(),
+                2, 3, 100, Duration.ofMinutes(10), nanoTime::get);
+    }
+
+    @Test
+    void isAllowed_BurstSpent_RejectsUntilRefilled() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            assertTrue(isAllowed("alice").isAllowed());
+        }
+
+        // Act
+        RateLimiter.Response rejected = isAllowed("alice");
+        advance(500);
+        RateLimiter.Response refilled = isAllowed("alice");
+
+        // Assert
+        assertFalse(rejected.isAllowed());
+        assertEquals("0", rejected.getHeaders().get(InMemoryRateLimiter.REMAINING_HEADER));
+        assertEquals("2", rejected.getHeaders().get(InMemoryRateLimiter.REPLENISH_RATE_HEADER));
+        assertEquals("3", rejected.getHeaders().get(InMemoryRateLimiter.BURST_CAPACITY_HEADER));
+        assertTrue(refilled.isAllowed());
+    }
+
+    @Test
+    void isAllowed_OtherCaller_HasOwnBucket() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            isAllowed("alice");
+        }
+
+        // Act
+        RateLimiter.Response bob = isAllowed("bob");
+
+        // Assert
+        assertFalse(isAllowed("alice").isAllowed());
+        assertTrue(bob.isAllowed());
+        assertEquals("2", bob.getHeaders().get(InMemoryRateLimiter.REMAINING_HEADER));
+    }
+
+    @Test
+    void isAllowed_RouteConfig_OverridesDefaults() {
+        // Arrange
+        InMemoryRateLimiter.Config config = new InMemoryRateLimiter.Config();
+        config.setReplenishRate(1);
+        config.setBurstCapacity(1);
+        rateLimiter.getConfig().put("search", config);
+
+        // Act
+        RateLimiter.Response first = rateLimiter.isAllowed("search", "alice").block();
+        RateLimiter.Response second = rateLimiter.isAllowed("search", "alice").block();
+
+        // Assert
+        assertTrue(first.isAllowed());
+        assertFalse(second.isAllowed());
+        // The same caller's bucket on another route is untouched
+        assertTrue(isAllowed("alice").isAllowed());
+    }
+
+    private RateLimiter.Response isAllowed(String id) {
+        return rateLimiter.isAllowed(ROUTE, id).block();
+    }
+
+    private void advance(long millis) {
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,68 @@
+package com.teletrack360.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final int RATE = 10;
+    private static final long CAPACITY = 5;
+
+    @Test
+    void tryConsume_FullBucket_AllowsBurstUpToCapacity() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(CAPACITY, 0);
+
+        // Act & Assert
+        for (long left = CAPACITY - 1; left >= 0; left--) {
+            assertEquals(left, bucket.tryConsume(1, RATE, CAPACITY, 0));
+        }
+        assertEquals(-1, bucket.tryConsume(1, RATE, CAPACITY, 0));
+    }
+
+    @Test
+    void tryConsume_Empty_RefillsFromElapsedTime() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(CAPACITY, 0);
+        bucket.tryConsume((int) CAPACITY, RATE, CAPACITY, 0);
+
+        // Act & Assert: 10 tokens a second is one every 100ms
+        assertEquals(-1, bucket.tryConsume(1, RATE, CAPACITY, millis(99)));
+        assertEquals(0, bucket.tryConsume(1, RATE, CAPACITY, millis(100)));
+        assertEquals(1, bucket.tryConsume(1, RATE, CAPACITY, millis(300)));
+    }
+
+    @Test
+    void tryConsume_LongIdle_RefillsOnlyToCapacity() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(CAPACITY, 0);
+        bucket.tryConsume((int) CAPACITY, RATE, CAPACITY, 0);
+
+        // Act
+        long left = bucket.tryConsume(1, RATE, CAPACITY, TimeUnit.HOURS.toNanos(1));
+
+        // Assert
+        assertEquals(CAPACITY - 1, left);
+    }
+
+    @Test
+    void tryConsume_NotEnoughTokens_TakesNone() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(CAPACITY, 0);
+        bucket.tryConsume(3, RATE, CAPACITY, 0);
+
+        // Act
+        long rejected = bucket.tryConsume(3, RATE, CAPACITY, 0);
+
+        // Assert
+        assertEquals(-1, rejected);
+        assertEquals(0, bucket.tryConsume(2, RATE, CAPACITY, 0));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,233 @@
+package com.teletrack360.loadharness;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Sends harness operations to the running services over HTTP.
+ *
+ * <p>Requests to incident-service carry the signed identity headers the gateway would
+ * add after validating the caller's access token, so they take the same authentication
+ * path as production traffic. Ids of created incidents are kept in a bounded ring that
+ * assign and status calls draw from.
+ */
+@Slf4j
+public class HarnessClient {
+
+    private static final String PASSWORD = "LoadHarness@123";
+    private static final int INCIDENT_POOL_SIZE = 4096;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final IncidentPriority[] PRIORITIES = IncidentPriority.values();
+    private static final IncidentStatus[] STATUSES = IncidentStatus.values();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI userService;
+    private final URI incidentService;
+    private final GatewayAuthHeaders authHeaders;
+
+    private final AtomicReferenceArray<Session> sessions;
+    private final AtomicLongArray incidentIds = new AtomicLongArray(INCIDENT_POOL_SIZE);
+    private final AtomicLong incidentsCreated = new AtomicLong();
+
+    public HarnessClient(ServiceStack stack, int users) {
+        this.userService = stack.userServiceUri();
+        this.incidentService = stack.incidentServiceUri();
+        this.authHeaders = stack.gatewayAuthHeaders();
+        this.sessions = new AtomicReferenceArray<>(users);
+    }
+
+    /**
+     * Registers the harness operators and logs each of them in once, so every
+     * operation has a session to use from the first request.
+     */
+    public void registerUsers() {
+        for (int i = 0; i < sessions.length(); i++) {
+            String username = username(i);
+            HttpResponse<String> response = post(userService.resolve("/api/v1/auth/register"), Map.of(
+                    "username", username,
+                    "email", username + "@loadharness.local",
+                    "password", PASSWORD,
+                    "firstName", "Load",
+                    "lastName", "Operator " + i
+            ), null).join();
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Registering " + username + " failed with "
+                        + response.statusCode() + ": " + response.body());
+            }
+            sessions.set(i, login(i).join());
+            log.debug("Registered {}", username);
+        }
+    }
+
+    /**
+     * Creates incidents up front so assign and status calls have targets from the start.
+     */
+    public void seedIncidents(int count) {
+        for (int i = 0; i < count; i++) {
+            int status = send(Operation.CREATE).join();
+            if (status != 201) {
+                throw new IllegalStateException("Seeding incidents failed with " + status);
+            }
+        }
+    }
+
+    /**
+     * Sends one operation and completes with its HTTP status code.
+     */
+    public CompletableFuture<Integer> send(Operation operation) {
+        return switch (operation) {
+            case LOGIN -> {
+                int user = randomUser();
+                yield login(user).thenApply(session -> {
+                    sessions.set(user, session);
+                    return 200;
+                }).exceptionally(e -> 401);
+            }
+            case CREATE -> post(incidentService.resolve("/api/v1/incidents"), Map.of(
+                    "title", "Load incident " + incidentsCreated.get(),
+                    "description", "Generated by the load harness",
+                    "priority", PRIORITIES[ThreadLocalRandom.current().nextInt(PRIORITIES.length)].name()
+            ), randomSession()).thenApply(this::rememberIncident);
+            case ASSIGN -> exchange(HttpRequest.newBuilder(incidentService.resolve(
+                            "/api/v1/incidents/" + randomIncident() + "/assign?assignedTo=" + username(randomUser())))
+                    .POST(HttpRequest.BodyPublishers.noBody()), randomSession())
+                    .thenApply(HttpResponse::statusCode);
+            case STATUS -> exchange(HttpRequest.newBuilder(incidentService.resolve(
+                            "/api/v1/incidents/" + randomIncident() + "/status?status="
+                                    + STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody()), randomSession())
+                    .thenApply(HttpResponse::statusCode);
+            case LIST -> exchange(HttpRequest.newBuilder(incidentService.resolve("/api/v1/incidents?page=0&size=20"))
+                    .GET(), randomSession())
+                    .thenApply(HttpResponse::statusCode);
+            case GET -> exchange(HttpRequest.newBuilder(incidentService.resolve("/api/v1/incidents/" + randomIncident()))
+                    .GET(), randomSession())
+                    .thenApply(HttpResponse::statusCode);
+        };
+    }
+
+    private CompletableFuture<Session> login(int user) {
+        return post(userService.resolve("/api/v1/auth/login"),
+                Map.of("username", username(user), "password", PASSWORD), null)
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("Login failed with " + response.statusCode());
+                    }
+                    return sessionFor(readTree(response.body()).path("data").path("accessToken").asText());
+                });
+    }
+
+    /**
+     * Does what the gateway does with a verified access token: turns its subject, roles
+     * and expiry into signed identity headers.
+     */
+    private Session sessionFor(String accessToken) {
+        String[] parts = accessToken.split("\\.");
+        JsonNode claims = readTree(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+        String username = claims.path("sub").asText();
+        String roles = String.join(",", objectMapper.convertValue(claims.path("roles"), String[].class));
+        long expiresAt = claims.path("exp").asLong() * 1000;
+        return new Session(new String[]{
+                GatewayAuthHeaders.USERNAME, username,
+                GatewayAuthHeaders.ROLES, roles,
+                GatewayAuthHeaders.EXPIRES, String.valueOf(expiresAt),
+                GatewayAuthHeaders.SIGNATURE, authHeaders.sign(username, roles, expiresAt)
+        });
+    }
+
+    private int rememberIncident(HttpResponse<String> response) {
+        if (response.statusCode() == 201) {
+            long id = readTree(response.body()).path("data").path("id").asLong();
+            long slot = incidentsCreated.getAndIncrement();
+            incidentIds.set((int) (slot % INCIDENT_POOL_SIZE), id);
+        }
+        return response.statusCode();
+    }
+
+    private long randomIncident() {
+        long created = Math.min(incidentsCreated.get(), INCIDENT_POOL_SIZE);
+        if (created == 0) {
+            throw new IllegalStateException("No incidents created yet; seed some before the run");
+        }
+        long id;
+        do {
+            // A slot is claimed just before its id is written; skip the ones still empty
+            id = incidentIds.get(ThreadLocalRandom.current().nextInt((int) created));
+        } while (id == 0);
+        return id;
+    }
+
+    private int randomUser() {
+        return ThreadLocalRandom.current().nextInt(sessions.length());
+    }
+
+    private Session randomSession() {
+        Session session = sessions.get(randomUser());
+        // Only empty while users are still being registered
+        return session != null ? session : sessions.get(0);
+    }
+
+    private CompletableFuture<HttpResponse<String>> post(URI uri, Map<String, String> body, Session session) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            return exchange(request, session);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> exchange(HttpRequest.Builder request, Session session) {
+        request.timeout(REQUEST_TIMEOUT);
+        if (session != null) {
+            request.headers(session.getHeaders());
+        }
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable response body: " + json, e);
+        }
+    }
+
+    private static String username(int index) {
+        return "load-operator-" + index;
+    }
+
+    /**
+     * Gateway identity headers for one logged-in operator, as name/value pairs
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Session {
+        private final String[] headers;
+    }
+}
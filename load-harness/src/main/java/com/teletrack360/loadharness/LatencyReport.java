@@ -0,0 +1,119 @@
+package com.teletrack360.loadharness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and counters for one measured run. Latencies are
+ * recorded in microseconds with three significant digits.
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, EndpointStats> endpoints = new EnumMap<>(Operation.class);
+    private volatile Duration elapsed = Duration.ZERO;
+
+    public LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            endpoints.put(operation, new EndpointStats());
+        }
+    }
+
+    public void record(Operation operation, long latencyNanos, boolean success) {
+        EndpointStats stats = endpoints.get(operation);
+        stats.latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Counts an arrival the driver could not send because too many requests were
+     * already outstanding; the system under test was not keeping up.
+     */
+    public void dropped(Operation operation) {
+        endpoints.get(operation).dropped.increment();
+    }
+
+    public void setElapsed(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public long errors() {
+        return endpoints.values().stream().mapToLong(stats -> stats.errors.sum() + stats.dropped.sum()).sum();
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-38s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Errors", "Dropped", "Req/s", "p50 ms", "p99 ms", "p999 ms", "Max ms");
+        endpoints.forEach((operation, stats) -> {
+            Histogram latencies = stats.latencies;
+            if (latencies.getTotalCount() == 0 && stats.dropped.sum() == 0) {
+                return;
+            }
+            out.printf("%-38s %8d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.getEndpoint(),
+                    latencies.getTotalCount(),
+                    stats.errors.sum(),
+                    stats.dropped.sum(),
+                    throughput(latencies.getTotalCount()),
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()));
+        });
+    }
+
+    public void write(Path file, Map<String, Object> extra) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+        report.putAll(extra);
+        Map<String, Object> perEndpoint = new LinkedHashMap<>();
+        endpoints.forEach((operation, stats) -> {
+            Histogram latencies = stats.latencies;
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("count", latencies.getTotalCount());
+            entry.put("errors", stats.errors.sum());
+            entry.put("dropped", stats.dropped.sum());
+            entry.put("throughput", throughput(latencies.getTotalCount()));
+            entry.put("p50Ms", millis(latencies.getValueAtPercentile(50)));
+            entry.put("p99Ms", millis(latencies.getValueAtPercentile(99)));
+            entry.put("p999Ms", millis(latencies.getValueAtPercentile(99.9)));
+            entry.put("maxMs", millis(latencies.getMaxValue()));
+            perEndpoint.put(operation.getEndpoint(), entry);
+        });
+        report.put("endpoints", perEndpoint);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private double throughput(long count) {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds > 0 ? count / seconds : 0;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static class EndpointStats {
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
@@ -0,0 +1,58 @@
+package com.teletrack360.loadharness;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts the services in-process, replays the configured traffic mix against them and
+ * reports per-endpoint latency percentiles and throughput.
+ *
+ * <p>See the module pom for the {@code load.*} properties and how to run it.
+ */
+@Slf4j
+public class LoadHarness {
+
+    /** Incidents created before the run so assign and status calls have targets */
+    private static final int SEED_INCIDENTS_PER_USER = 5;
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        long errors;
+
+        try (ServiceStack stack = ServiceStack.start(profile.getServicesDir())) {
+            HarnessClient client = new HarnessClient(stack, profile.getUsers());
+            client.registerUsers();
+            client.seedIncidents(profile.getUsers() * SEED_INCIDENTS_PER_USER);
+
+            TrafficDriver driver = new TrafficDriver(client, profile);
+            if (!profile.getWarmup().isZero()) {
+                System.out.printf("Warming up for %s at %d req/s%n", profile.getWarmup(), profile.getRps());
+                driver.run(profile.getWarmup());
+            }
+            System.out.printf("Measuring for %s at %d req/s, mix %s%n",
+                    profile.getDuration(), profile.getRps(), profile.getMix());
+            LatencyReport report = driver.run(profile.getDuration());
+
+            System.out.println();
+            report.print(System.out);
+            long notifications = stack.notificationCount();
+            System.out.printf("%nNotifications persisted by notification-service: %d%n", notifications);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("targetRps", profile.getRps());
+            summary.put("mix", profile.getMix());
+            summary.put("notificationsPersisted", notifications);
+            report.write(profile.getReport(), summary);
+            System.out.printf("Report written to %s%n", profile.getReport());
+            errors = report.errors();
+        }
+
+        if (errors > 0) {
+            log.warn("{} requests failed or were dropped", errors);
+        }
+        // Kafka and Tomcat leave non-daemon threads behind
+        System.exit(0);
+    }
+}
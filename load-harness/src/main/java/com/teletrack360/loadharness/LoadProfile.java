@@ -0,0 +1,79 @@
+package com.teletrack360.loadharness;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * What a load run looks like: arrival rate, how long to run and which calls to make.
+ * Built from {@code load.*} system properties, which the module pom fills in.
+ */
+@Getter
+@Builder
+public class LoadProfile {
+
+    private final int rps;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int users;
+    /** Relative weight of each operation; operations left out are never sent */
+    private final Map<Operation, Integer> mix;
+    private final int maxOutstanding;
+    private final Path servicesDir;
+    private final Path report;
+
+    public static LoadProfile fromSystemProperties() {
+        return LoadProfile.builder()
+                .rps(Integer.getInteger("load.rps", 50))
+                .duration(Duration.parse(System.getProperty("load.duration", "PT30S")))
+                .warmup(Duration.parse(System.getProperty("load.warmup", "PT10S")))
+                .users(Integer.getInteger("load.users", 20))
+                .mix(parseMix(System.getProperty("load.mix", "login:5,create:20,assign:15,status:10,list:50")))
+                .maxOutstanding(Integer.getInteger("load.max-outstanding", 512))
+                .servicesDir(Path.of(System.getProperty("load.services-dir", "services")))
+                .report(Path.of(System.getProperty("load.report", "target/load-report.json")))
+                .build();
+    }
+
+    /**
+     * Parses {@code login:5,create:20,...} into operation weights.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix must give at least one operation a positive weight");
+        }
+        return weights;
+    }
+
+    /**
+     * Draws the next operation according to the mix weights.
+     */
+    public Operation nextOperation() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int draw = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            draw -= entry.getValue();
+            if (draw < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable: draw exceeded mix total");
+    }
+}
@@ -0,0 +1,20 @@
+package com.teletrack360.loadharness;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Calls the harness can put into its traffic mix
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+    LOGIN("POST /api/v1/auth/login"),
+    CREATE("POST /api/v1/incidents"),
+    ASSIGN("POST /api/v1/incidents/{id}/assign"),
+    STATUS("PATCH /api/v1/incidents/{id}/status"),
+    LIST("GET /api/v1/incidents"),
+    GET("GET /api/v1/incidents/{id}");
+
+    private final String endpoint;
+}
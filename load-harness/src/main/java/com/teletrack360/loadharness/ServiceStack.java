@@ -0,0 +1,128 @@
+package com.teletrack360.loadharness;
+
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import com.teletrack360.incident.IncidentServiceApplication;
+import com.teletrack360.notification.NotificationServiceApplication;
+import com.teletrack360.notification.repository.NotificationRepository;
+import com.teletrack360.user.UserServiceApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs user-service, incident-service and notification-service side by side in this
+ * JVM, each in its own application context on a random port.
+ *
+ * <p>Every service reads its own {@code application.yml}; only infrastructure is swapped:
+ * an in-memory H2 database per service in PostgreSQL mode, and an in-process KRaft
+ * broker instead of Kafka. Liquibase is switched off because the services' changelogs
+ * share a classpath location here, so Hibernate creates the schemas from the entities.
+ */
+@Slf4j
+public class ServiceStack implements AutoCloseable {
+
+    private static final String[] TOPICS = {
+            "incident-events"
+    };
+
+    private final EmbeddedKafkaBroker kafka;
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private ConfigurableApplicationContext userService;
+    private ConfigurableApplicationContext incidentService;
+    private ConfigurableApplicationContext notificationService;
+
+    private ServiceStack(EmbeddedKafkaBroker kafka) {
+        this.kafka = kafka;
+    }
+
+    public static ServiceStack start(Path servicesDir) {
+        EmbeddedKafkaBroker kafka = new EmbeddedKafkaKraftBroker(1, 6, TOPICS);
+        kafka.afterPropertiesSet();
+        ServiceStack stack = new ServiceStack(kafka);
+        try {
+            // Consumers first, so no event published during the run waits on a rebalance
+            stack.notificationService = stack.run(NotificationServiceApplication.class, servicesDir, "notification-service");
+            stack.incidentService = stack.run(IncidentServiceApplication.class, servicesDir, "incident-service");
+            stack.userService = stack.run(UserServiceApplication.class, servicesDir, "user-service");
+        } catch (RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+        return stack;
+    }
+
+    private ConfigurableApplicationContext run(Class<?> application, Path servicesDir, String service) {
+        Path config = servicesDir.resolve(service).resolve("src/main/resources/application.yml").toAbsolutePath();
+        if (!Files.exists(config)) {
+            throw new IllegalStateException("No configuration for " + service + " at " + config);
+        }
+        String database = service.replace("-service", "");
+        log.info("Starting {}", service);
+        // Command-line arguments outrank the service's own application.yml
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application)
+                .run(
+                        "--spring.config.location=file:" + config,
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.liquibase.enabled=false",
+                        // H2 has no advisory locks, and the stack runs a single outbox relay
+                        "--incident.outbox.leader-lock=false",
+                        "--spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString(),
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.teletrack360=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.springframework.security=WARN"
+                );
+        contexts.add(context);
+        return context;
+    }
+
+    public URI userServiceUri() {
+        return baseUri(userService);
+    }
+
+    public URI incidentServiceUri() {
+        return baseUri(incidentService);
+    }
+
+    /**
+     * The signer incident-service verifies gateway identity headers with; the harness
+     * stands in for the gateway, which is not part of the stack.
+     */
+    public GatewayAuthHeaders gatewayAuthHeaders() {
+        return incidentService.getBean(GatewayAuthHeaders.class);
+    }
+
+    public long notificationCount() {
+        return notificationService.getBean(NotificationRepository.class).count();
+    }
+
+    private static URI baseUri(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    @Override
+    public void close() {
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            contexts.get(i).close();
+        }
+        kafka.destroy();
+    }
+}
@@ -0,0 +1,67 @@
+package com.teletrack360.loadharness;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: requests are started on a fixed schedule at the target
+ * rate whether or not earlier ones have finished, as independent clients would.
+ *
+ * <p>Latency is measured from when a request was due, not from when it was actually
+ * sent, so a stall in the services (or in this driver) shows up in the percentiles
+ * instead of silently lowering the offered load.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TrafficDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HarnessClient client;
+    private final LoadProfile profile;
+
+    public LatencyReport run(Duration duration) {
+        LatencyReport report = new LatencyReport();
+        AtomicInteger outstanding = new AtomicInteger();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.getRps();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long due = start; due < end; due += intervalNanos) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = profile.nextOperation();
+            if (outstanding.get() >= profile.getMaxOutstanding()) {
+                report.dropped(operation);
+                continue;
+            }
+            outstanding.incrementAndGet();
+            long intendedStart = due;
+            client.send(operation).whenComplete((status, error) -> {
+                boolean success = error == null && status >= 200 && status < 300;
+                if (error != null) {
+                    log.debug("{} failed", operation, error);
+                }
+                report.record(operation, System.nanoTime() - intendedStart, success);
+                outstanding.decrementAndGet();
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (outstanding.get() > 0) {
+            log.warn("{} requests still outstanding after {}", outstanding.get(), DRAIN_TIMEOUT);
+        }
+        report.setElapsed(duration);
+        return report;
+    }
+}
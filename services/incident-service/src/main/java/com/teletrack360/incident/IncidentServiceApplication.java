@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"com.teletrack360.incident", "com.teletrack360.common"})
 @EnableJpaAuditing
 @EnableKafka
+@EnableScheduling
 public class IncidentServiceApplication {
 
     public static void main(String[] args) {
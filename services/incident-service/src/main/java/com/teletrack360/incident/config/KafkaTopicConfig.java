@@ -0,0 +1,34 @@
+package com.teletrack360.incident.config;
+
+import com.teletrack360.incident.kafka.IncidentEventProducer;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.stream.Stream;
+
+/**
+ * Creates the incident topics for the configured {@code incident.events.topic-mode} on
+ * startup if they do not exist yet. Events are keyed by
+ * incident id, so the partition count caps how many consumer threads a group can use
+ * while each incident's events stay in order. Adding partitions later moves keys to new
+ * partitions, so events of an incident in flight at that moment may be reordered once.
+ */
+@Configuration
+public class KafkaTopicConfig {
+    
+    @Bean
+    public KafkaAdmin.NewTopics incidentTopics(@Value("${incident.events.topic-mode:unified}") String topicMode,
+                                               @Value("${incident.events.partitions:6}") int partitions,
+                                               @Value("${incident.events.replicas:1}") int replicas) {
+        Stream<String> topics = "per-type".equals(topicMode)
+                ? Stream.of("incident-created", "incident-updated", "incident-assigned", "incident-resolved")
+                : Stream.of(IncidentEventProducer.UNIFIED_TOPIC);
+        return new KafkaAdmin.NewTopics(
+                topics.map(topic -> TopicBuilder.name(topic).partitions(partitions).replicas(replicas).build())
+                        .toArray(NewTopic[]::new));
+    }
+}
@@ -1,27 +1,57 @@
 package com.teletrack360.incident.controller;
 
 import com.teletrack360.common.dto.ApiResponse;
+import com.teletrack360.common.dto.CursorPageResponse;
 import com.teletrack360.common.dto.PageResponse;
+import com.teletrack360.common.enums.IncidentPriority;
 import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.exception.ConflictException;
+import com.teletrack360.common.exception.PreconditionFailedException;
+import com.teletrack360.common.exception.ValidationException;
+import com.teletrack360.common.util.ETagUtil;
+import com.teletrack360.incident.dto.BulkAssignRequest;
+import com.teletrack360.incident.dto.BulkCreateIncidentRequest;
+import com.teletrack360.incident.dto.BulkDeleteRequest;
+import com.teletrack360.incident.dto.BulkOperationResponse;
+import com.teletrack360.incident.dto.BulkStatusRequest;
 import com.teletrack360.incident.dto.CreateIncidentRequest;
+import com.teletrack360.incident.dto.IncidentAuditResponse;
+import com.teletrack360.incident.dto.IncidentCursor;
 import com.teletrack360.incident.dto.IncidentResponse;
+import com.teletrack360.incident.dto.IncidentSearchCriteria;
+import com.teletrack360.incident.dto.IncidentSearchResponse;
+import com.teletrack360.incident.dto.IncidentStreamFilter;
+import com.teletrack360.incident.dto.IncidentSummary;
 import com.teletrack360.incident.dto.UpdateIncidentRequest;
 import com.teletrack360.incident.service.IncidentService;
+import com.teletrack360.incident.service.IncidentStreamBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/incidents")
@@ -32,6 +62,7 @@ import org.springframework.web.bind.annotation.*;
 public class IncidentController {
     
     private final IncidentService incidentService;
+    private final IncidentStreamBroadcaster streamBroadcaster;
     
     @PostMapping
     @Operation(summary = "Create a new incident")
@@ -44,6 +75,7 @@ public class IncidentController {
         IncidentResponse response = incidentService.createIncident(request, authentication.getName());
         return ResponseEntity
                 .status(HttpStatus.CREATED)
+                .eTag(eTag(response))
                 .body(ApiResponse.success("Incident created successfully", response));
     }
     
@@ -53,57 +85,175 @@ public class IncidentController {
     public ResponseEntity<ApiResponse<IncidentResponse>> getIncidentById(@PathVariable Long id) {
         log.info("Getting incident by ID: {}", id);
         IncidentResponse response = incidentService.getIncidentById(id);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok().eTag(eTag(response)).body(ApiResponse.success(response));
     }
     
     @GetMapping
-    @Operation(summary = "Get all incidents with pagination")
+    @Operation(summary = "Get all incidents with pagination; fields=id,title,... returns only those fields")
     @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR', 'SUPPORT')")
-    public ResponseEntity<ApiResponse<PageResponse<IncidentResponse>>> getAllIncidents(
+    public ResponseEntity<ApiResponse<PageResponse<?>>> getAllIncidents(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDirection
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) Set<String> fields
     ) {
-        log.info("Getting all incidents - page: {}, size: {}", page, size);
+        log.info("Getting all incidents - page: {}, size: {}, fields: {}", page, size, fields);
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         
-        Page<IncidentResponse> incidents = incidentService.getAllIncidents(pageable);
-        PageResponse<IncidentResponse> response = PageResponse.of(
-                incidents.getContent(),
-                incidents.getNumber(),
-                incidents.getSize(),
-                incidents.getTotalElements()
-        );
+        // Tagged by the ids and versions on the page, so an unchanged page is answered with 304
+        // and never serialized; the total is included because deletes elsewhere change it
+        PageResponse<?> response;
+        String eTag;
+        if (fields == null || fields.isEmpty()) {
+            Page<IncidentResponse> incidents = incidentService.getAllIncidents(pageable);
+            response = PageResponse.of(
+                    incidents.getContent(),
+                    incidents.getNumber(),
+                    incidents.getSize(),
+                    incidents.getTotalElements()
+            );
+            eTag = ETagUtil.weak(incidents.getTotalElements(),
+                    versionsOf(incidents.getContent(), IncidentResponse::getId, IncidentResponse::getVersion));
+        } else {
+            Page<IncidentSummary> summaries = incidentService.getIncidentSummaries(pageable, fields);
+            response = PageResponse.of(
+                    summaries.getContent().stream().map(summary -> summary.select(fields)).toList(),
+                    summaries.getNumber(),
+                    summaries.getSize(),
+                    summaries.getTotalElements()
+            );
+            eTag = ETagUtil.weak(summaries.getTotalElements(),
+                    versionsOf(summaries.getContent(), IncidentSummary::getId, IncidentSummary::getVersion));
+        }
+        
+        return ResponseEntity.ok().eTag(eTag).body(ApiResponse.success(response));
+    }
+    
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all incidents with keyset pagination ordered by creation time; size is capped at 100")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR', 'SUPPORT')")
+    public ResponseEntity<ApiResponse<CursorPageResponse<IncidentResponse>>> getIncidentsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "DESC") String sortDirection
+    ) {
+        log.info("Getting incidents by cursor - size: {}, direction: {}", size, sortDirection);
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        IncidentCursor cursor = after != null && !after.isBlank() ? IncidentCursor.decode(after) : null;
+        
+        Slice<IncidentResponse> incidents = incidentService.getIncidentsAfter(cursor, size, direction);
+        List<IncidentResponse> content = incidents.getContent();
+        String nextCursor = incidents.hasNext() && !content.isEmpty()
+                ? IncidentCursor.of(content.get(content.size() - 1)).encode()
+                : null;
         
+        String eTag = ETagUtil.weak(nextCursor, versionsOf(content, IncidentResponse::getId, IncidentResponse::getVersion));
+        return ResponseEntity.ok().eTag(eTag).body(ApiResponse.success(CursorPageResponse.of(content, incidents.getSize(), nextCursor)));
+    }
+    
+    @GetMapping("/{id}/audit")
+    @Operation(summary = "Get the change history of an incident, newest first")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR', 'SUPPORT')")
+    public ResponseEntity<ApiResponse<PageResponse<IncidentAuditResponse>>> getAuditHistory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("Getting audit history of incident {} - page: {}, size: {}", id, page, size);
+        Page<IncidentAuditResponse> history = incidentService.getAuditHistory(id, PageRequest.of(page, size));
+        PageResponse<IncidentAuditResponse> response = PageResponse.of(
+                history.getContent(),
+                history.getNumber(),
+                history.getSize(),
+                history.getTotalElements()
+        );
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
+    @GetMapping("/search")
+    @Operation(summary = "Full-text incident search with filters; status/priority facet counts on the first page "
+            + "unless facets=false, and on later pages with facets=true")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR', 'SUPPORT')")
+    public ResponseEntity<ApiResponse<IncidentSearchResponse>> searchIncidents(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) List<IncidentStatus> status,
+            @RequestParam(required = false) List<IncidentPriority> priority,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Boolean facets
+    ) {
+        log.info("Searching incidents - q: {}, page: {}, size: {}", q, page, size);
+        IncidentSearchCriteria criteria = IncidentSearchCriteria.builder()
+                .query(q)
+                .statuses(status)
+                .priorities(priority)
+                .assignedTo(assignedTo)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+        // Clients paging through hits already have the facets from the first page
+        boolean withFacets = facets != null ? facets : page <= 0;
+        IncidentSearchResponse response = incidentService.searchIncidents(criteria, page, size, withFacets);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream incident events as Server-Sent Events, optionally filtered")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR', 'SUPPORT')")
+    public ResponseEntity<SseEmitter> streamIncidents(
+            @RequestParam(required = false) Set<IncidentPriority> priority,
+            @RequestParam(required = false) Set<IncidentStatus> status,
+            @RequestParam(required = false) String assignedTo
+    ) {
+        log.info("Opening incident stream - priority: {}, status: {}, assignedTo: {}", priority, status, assignedTo);
+        SseEmitter emitter = streamBroadcaster.subscribe(IncidentStreamFilter.builder()
+                .priorities(priority)
+                .statuses(status)
+                .assignedTo(assignedTo)
+                .build());
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+    
     @PutMapping("/{id}")
-    @Operation(summary = "Update incident")
+    @Operation(summary = "Update incident; send the ETag from a previous read as If-Match to avoid lost updates")
     @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
     public ResponseEntity<ApiResponse<IncidentResponse>> updateIncident(
             @PathVariable Long id,
             @Valid @RequestBody UpdateIncidentRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication
     ) {
         log.info("Updating incident: {}", id);
-        IncidentResponse response = incidentService.updateIncident(id, request, authentication.getName());
-        return ResponseEntity.ok(ApiResponse.success("Incident updated successfully", response));
+        IncidentResponse response = incidentService.updateIncident(
+                id, request, expectedVersions(ifMatch), authentication.getName());
+        return ResponseEntity.ok().eTag(eTag(response)).body(ApiResponse.success("Incident updated successfully", response));
     }
     
     @PatchMapping("/{id}/status")
-    @Operation(summary = "Update incident status")
+    @Operation(summary = "Update incident status, optionally only from expectedStatus in a single conditional update")
     @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
     public ResponseEntity<ApiResponse<IncidentResponse>> updateStatus(
             @PathVariable Long id,
             @RequestParam IncidentStatus status,
+            @RequestParam(required = false) IncidentStatus expectedStatus,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication
     ) {
         log.info("Updating incident status: {} to {}", id, status);
-        IncidentResponse response = incidentService.updateStatus(id, status, authentication.getName());
-        return ResponseEntity.ok(ApiResponse.success("Status updated successfully", response));
+        IncidentResponse response = expectedStatus != null
+                ? incidentService.updateStatusIf(id, expectedStatus, status, expectedVersions(ifMatch), authentication.getName())
+                : incidentService.updateStatus(id, status, expectedVersions(ifMatch), authentication.getName());
+        return ResponseEntity.ok().eTag(eTag(response)).body(ApiResponse.success("Status updated successfully", response));
     }
     
     @PostMapping("/{id}/assign")
@@ -112,19 +262,159 @@ public class IncidentController {
     public ResponseEntity<ApiResponse<IncidentResponse>> assignIncident(
             @PathVariable Long id,
             @RequestParam String assignedTo,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication
     ) {
         log.info("Assigning incident {} to {}", id, assignedTo);
-        IncidentResponse response = incidentService.assignIncident(id, assignedTo, authentication.getName());
-        return ResponseEntity.ok(ApiResponse.success("Incident assigned successfully", response));
+        IncidentResponse response = incidentService.assignIncident(
+                id, assignedTo, expectedVersions(ifMatch), authentication.getName());
+        return ResponseEntity.ok().eTag(eTag(response)).body(ApiResponse.success("Incident assigned successfully", response));
+    }
+    
+    @PostMapping("/{id}/claim")
+    @Operation(summary = "Assign an open, unassigned incident; 409 if someone else got there first")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
+    public ResponseEntity<ApiResponse<IncidentResponse>> claimIncident(
+            @PathVariable Long id,
+            @RequestParam(required = false) String assignedTo,
+            Authentication authentication
+    ) {
+        String assignee = assignedTo != null ? assignedTo : authentication.getName();
+        log.info("Claiming incident {} for {}", id, assignee);
+        IncidentResponse response = incidentService.claimIncident(id, assignee, authentication.getName());
+        return ResponseEntity.ok().eTag(eTag(response)).body(ApiResponse.success("Incident claimed successfully", response));
+    }
+    
+    @PostMapping("/bulk")
+    @Operation(summary = "Create up to 500 incidents in one request")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> bulkCreateIncidents(
+            @Valid @RequestBody BulkCreateIncidentRequest request,
+            Authentication authentication
+    ) {
+        log.info("Bulk creating {} incidents", request.getIncidents().size());
+        BulkOperationResponse response = incidentService.bulkCreateIncidents(request.getIncidents(), authentication.getName());
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Incidents created successfully", response));
+    }
+    
+    @PostMapping("/bulk/assign")
+    @Operation(summary = "Assign up to 500 incidents to a user, with a result per incident")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> bulkAssign(
+            @Valid @RequestBody BulkAssignRequest request,
+            Authentication authentication
+    ) {
+        log.info("Bulk assigning {} incidents to {}", request.getIds().size(), request.getAssignedTo());
+        BulkOperationResponse response = incidentService.bulkAssign(
+                request.getIds(), request.getAssignedTo(), authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @PatchMapping("/bulk/status")
+    @Operation(summary = "Update the status of up to 500 incidents, with a result per incident")
+    @PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusRequest request,
+            Authentication authentication
+    ) {
+        log.info("Bulk updating status of {} incidents to {}", request.getIds().size(), request.getStatus());
+        BulkOperationResponse response = incidentService.bulkUpdateStatus(
+                request.getIds(), request.getStatus(), authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Soft delete up to 500 incidents, with a result per incident")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> bulkDelete(
+            @Valid @RequestBody BulkDeleteRequest request,
+            Authentication authentication
+    ) {
+        log.info("Bulk deleting {} incidents", request.getIds().size());
+        BulkOperationResponse response = incidentService.bulkDelete(request.getIds(), authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
     
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete incident (soft delete)")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Void>> deleteIncident(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Void>> deleteIncident(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication
+    ) {
         log.info("Deleting incident: {}", id);
-        incidentService.deleteIncident(id);
+        incidentService.deleteIncident(id, expectedVersions(ifMatch), authentication.getName());
         return ResponseEntity.ok(ApiResponse.success("Incident deleted successfully", null));
     }
+    
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleValidation(ValidationException e) {
+        return ResponseEntity.badRequest()
+                .body(ApiResponse.error(e.getMessage(), e.getErrorCode()));
+    }
+    
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePreconditionFailed(PreconditionFailedException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(ApiResponse.error(e.getMessage(), e.getErrorCode()));
+    }
+    
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConflict(ConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(e.getMessage(), e.getErrorCode()));
+    }
+    
+    // Another request changed the incident between this one's read and its write
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConcurrentUpdate(OptimisticLockingFailureException e) {
+        log.info("Concurrent incident update rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("Incident was modified concurrently; reload and retry", "CONFLICT"));
+    }
+    
+    private static String eTag(IncidentResponse response) {
+        return String.valueOf(response.getVersion());
+    }
+    
+    private static <T> String versionsOf(List<T> items, Function<T, Long> id, Function<T, Long> version) {
+        StringBuilder versions = new StringBuilder(items.size() * 8);
+        for (T item : items) {
+            versions.append(id.apply(item)).append(':').append(version.apply(item)).append(',');
+        }
+        return versions.toString();
+    }
+    
+    /**
+     * The versions named by an {@code If-Match} header, or null when absent or {@code *}.
+     * If-Match uses strong comparison, so weak tags never match, and neither does a tag that
+     * is not one of ours; a header left with no tag that could match fails right away.
+     */
+    private static Set<Long> expectedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.isEmpty() || tag.startsWith("W/")) {
+                continue;
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            try {
+                versions.add(Long.valueOf(tag));
+            } catch (NumberFormatException e) {
+                // Not a tag we issued
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("If-Match does not match the current incident version: " + ifMatch);
+        }
+        return versions;
+    }
 }
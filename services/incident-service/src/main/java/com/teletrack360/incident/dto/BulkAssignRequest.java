@@ -0,0 +1,26 @@
+package com.teletrack360.incident.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignRequest {
+    
+    @NotEmpty(message = "At least one incident id is required")
+    @Size(max = 500, message = "At most 500 incidents per request")
+    private List<@NotNull Long> ids;
+    
+    @NotBlank(message = "Assignee is required")
+    private String assignedTo;
+}
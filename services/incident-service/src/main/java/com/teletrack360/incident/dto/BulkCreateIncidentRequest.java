@@ -0,0 +1,22 @@
+package com.teletrack360.incident.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateIncidentRequest {
+    
+    @NotEmpty(message = "At least one incident is required")
+    @Size(max = 500, message = "At most 500 incidents per request")
+    private List<@Valid CreateIncidentRequest> incidents;
+}
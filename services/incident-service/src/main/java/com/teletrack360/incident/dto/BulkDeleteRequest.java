@@ -0,0 +1,22 @@
+package com.teletrack360.incident.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteRequest {
+    
+    @NotEmpty(message = "At least one incident id is required")
+    @Size(max = 500, message = "At most 500 incidents per request")
+    private List<@NotNull Long> ids;
+}
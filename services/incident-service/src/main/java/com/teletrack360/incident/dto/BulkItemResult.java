@@ -0,0 +1,41 @@
+package com.teletrack360.incident.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome for one incident of a bulk request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+    
+    private Long id;
+    private boolean success;
+    private IncidentResponse incident;
+    private String errorCode;
+    private String message;
+    
+    public static BulkItemResult success(IncidentResponse incident) {
+        return BulkItemResult.builder()
+                .id(incident.getId())
+                .success(true)
+                .incident(incident)
+                .build();
+    }
+    
+    public static BulkItemResult failure(Long id, String errorCode, String message) {
+        return BulkItemResult.builder()
+                .id(id)
+                .success(false)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.teletrack360.incident.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentAuditResponse {
+    
+    private Long id;
+    private Long incidentId;
+    private String action;
+    private String performedBy;
+    private LocalDateTime timestamp;
+    
+    // Stored as JSON objects of the changed fields; emitted as-is rather than as strings
+    @JsonRawValue
+    private String oldValue;
+    
+    @JsonRawValue
+    private String newValue;
+    
+    private String comments;
+}
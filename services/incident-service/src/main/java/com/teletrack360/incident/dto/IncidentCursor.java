@@ -0,0 +1,45 @@
+package com.teletrack360.incident.dto;
+
+import com.teletrack360.common.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the (createdAt, id) keyset, exchanged with clients as an opaque token
+ */
+@Data
+@AllArgsConstructor
+public class IncidentCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static IncidentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new IncidentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ValidationException("Invalid pagination cursor");
+        }
+    }
+
+    public static IncidentCursor of(IncidentResponse incident) {
+        return new IncidentCursor(incident.getCreatedAt(), incident.getId());
+    }
+}
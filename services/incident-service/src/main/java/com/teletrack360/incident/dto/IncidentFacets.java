@@ -0,0 +1,35 @@
+package com.teletrack360.incident.dto;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Match counts per status and per priority. Every enum value is present, with zero
+ * when nothing matches, so clients can render a stable set of filters.
+ */
+@Getter
+public class IncidentFacets {
+    
+    private final Map<IncidentStatus, Long> statusCounts = new EnumMap<>(IncidentStatus.class);
+    private final Map<IncidentPriority, Long> priorityCounts = new EnumMap<>(IncidentPriority.class);
+    private long total;
+    
+    public IncidentFacets() {
+        for (IncidentStatus status : IncidentStatus.values()) {
+            statusCounts.put(status, 0L);
+        }
+        for (IncidentPriority priority : IncidentPriority.values()) {
+            priorityCounts.put(priority, 0L);
+        }
+    }
+    
+    public void add(IncidentStatus status, IncidentPriority priority, long count) {
+        statusCounts.merge(status, count, Long::sum);
+        priorityCounts.merge(priority, count, Long::sum);
+        total += count;
+    }
+}
@@ -25,4 +25,5 @@ public class IncidentResponse {
     private LocalDateTime updatedAt;
     private LocalDateTime resolvedAt;
     private LocalDateTime closedAt;
+    private Long version;
 }
@@ -0,0 +1,40 @@
+package com.teletrack360.incident.dto;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Incident search filters; null or empty fields do not restrict the result
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentSearchCriteria {
+    
+    /** Free text matched against title and description */
+    private String query;
+    
+    private List<IncidentStatus> statuses;
+    
+    private List<IncidentPriority> priorities;
+    
+    private String assignedTo;
+    
+    /** Inclusive lower bound on creation time */
+    private LocalDateTime createdFrom;
+    
+    /** Exclusive upper bound on creation time */
+    private LocalDateTime createdTo;
+    
+    public boolean hasQuery() {
+        return query != null && !query.isBlank();
+    }
+}
@@ -0,0 +1,28 @@
+package com.teletrack360.incident.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.teletrack360.common.dto.PageResponse;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One page of search hits plus, when requested, facet counts over every incident matching
+ * the search
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentSearchResponse {
+    
+    private PageResponse<IncidentResponse> results;
+    private Map<IncidentStatus, Long> statusCounts;
+    private Map<IncidentPriority, Long> priorityCounts;
+}
@@ -0,0 +1,35 @@
+package com.teletrack360.incident.dto;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Which incident events a stream subscriber receives; null or empty fields match anything
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentStreamFilter {
+    
+    private Set<IncidentPriority> priorities;
+    private Set<IncidentStatus> statuses;
+    private String assignedTo;
+    
+    public boolean matches(IncidentEvent event) {
+        IncidentEvent.IncidentEventPayload payload = event.getPayload();
+        if (payload == null) {
+            return false;
+        }
+        return (priorities == null || priorities.isEmpty() || priorities.contains(payload.getPriority()))
+                && (statuses == null || statuses.isEmpty() || statuses.contains(payload.getStatus()))
+                && (assignedTo == null || assignedTo.isBlank() || assignedTo.equals(payload.getAssignedTo()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.teletrack360.incident.dto;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * List-view projection of an incident, selected column by column so that neither the
+ * {@code description} TEXT column nor a managed entity is ever loaded.
+ */
+@Getter
+@AllArgsConstructor
+public class IncidentSummary {
+    
+    // Field names accepted by fields=, in response order
+    private static final Map<String, Function<IncidentSummary, Object>> FIELDS = new LinkedHashMap<>();
+    
+    static {
+        FIELDS.put("id", IncidentSummary::getId);
+        FIELDS.put("title", IncidentSummary::getTitle);
+        FIELDS.put("status", IncidentSummary::getStatus);
+        FIELDS.put("priority", IncidentSummary::getPriority);
+        FIELDS.put("assignedTo", IncidentSummary::getAssignedTo);
+        FIELDS.put("createdBy", IncidentSummary::getCreatedBy);
+        FIELDS.put("createdAt", IncidentSummary::getCreatedAt);
+        FIELDS.put("updatedAt", IncidentSummary::getUpdatedAt);
+        FIELDS.put("resolvedAt", IncidentSummary::getResolvedAt);
+        FIELDS.put("closedAt", IncidentSummary::getClosedAt);
+        FIELDS.put("version", IncidentSummary::getVersion);
+    }
+    
+    private final Long id;
+    private final String title;
+    private final IncidentStatus status;
+    private final IncidentPriority priority;
+    private final String assignedTo;
+    private final String createdBy;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime resolvedAt;
+    private final LocalDateTime closedAt;
+    private final Long version;
+    
+    /**
+     * Rejects names that are not summary fields; {@code description} is only served by the full views
+     */
+    public static void validateFields(Collection<String> fields) {
+        for (String field : fields) {
+            if (!FIELDS.containsKey(field)) {
+                throw new ValidationException(String.format(
+                        "Unknown field '%s'; list views support %s", field, String.join(",", FIELDS.keySet())));
+            }
+        }
+    }
+    
+    /**
+     * The requested fields plus {@code id}, in a stable order
+     */
+    public Map<String, Object> select(Set<String> fields) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (Map.Entry<String, Function<IncidentSummary, Object>> field : FIELDS.entrySet()) {
+            if ("id".equals(field.getKey()) || fields.contains(field.getKey())) {
+                selected.put(field.getKey(), field.getValue().apply(this));
+            }
+        }
+        return selected;
+    }
+}
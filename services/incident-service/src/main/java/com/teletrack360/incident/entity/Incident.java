@@ -24,8 +24,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Incident {
     
+    // Pooled sequence ids let Hibernate batch inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "incidents_seq")
+    @SequenceGenerator(name = "incidents_seq", sequenceName = "incidents_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 200)
@@ -64,6 +66,12 @@ public class Incident {
     
     private LocalDateTime closedAt;
     
+    @Builder.Default
     @Column(nullable = false)
     private Boolean deleted = false;
+    
+    // Optimistic lock: concurrent read-modify-write updates fail instead of overwriting each other
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
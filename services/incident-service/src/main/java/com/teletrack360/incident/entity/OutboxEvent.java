@@ -0,0 +1,46 @@
+package com.teletrack360.incident.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "incident_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 100)
+    private String topic;
+    
+    @Column(nullable = false, length = 100)
+    private String eventKey;
+    
+    @Column(nullable = false, length = 50)
+    private String eventType;
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Failed relay attempts that were not transient broker errors
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+    
+    // Set once the event has failed too often; the relay skips it from then on
+    @Column
+    private LocalDateTime deadLetteredAt;
+}
@@ -0,0 +1,40 @@
+package com.teletrack360.incident.filter;
+
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import com.teletrack360.common.security.GatewayAuthentication;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests from the identity the API gateway verified and signed,
+ * so this service never parses tokens or looks users up itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class GatewayAuthenticationFilter extends OncePerRequestFilter {
+    
+    private final GatewayAuthHeaders gatewayAuthHeaders;
+    
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            GatewayAuthentication.authenticate(gatewayAuthHeaders, request);
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.teletrack360.incident.kafka;
+
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.incident.service.IncidentResponseCache;
+import com.teletrack360.incident.service.IncidentStreamBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * The instance's single consumer of incident events, this instance's own included.
+ * Each event evicts the changed incident from the local cache and is pushed to the
+ * matching live streams.
+ *
+ * <p>Each instance joins its own consumer group so that every instance sees every event,
+ * starting from the latest offset: entries cached and streams opened before startup
+ * cannot exist.
+ */
+@Component
+@RequiredArgsConstructor
+public class IncidentChangeListener {
+
+    private final IncidentResponseCache responseCache;
+    private final IncidentStreamBroadcaster streamBroadcaster;
+
+    @KafkaListener(
+            topics = "#{'${incident.events.topics:incident-events}'.split(',')}",
+            groupId = "incident-service-${random.uuid}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "key.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "value.deserializer=com.teletrack360.common.kafka.IncidentEventDeserializer"
+            }
+    )
+    public void onIncidentEvent(IncidentEvent event) {
+        if (event == null || event.getPayload() == null || event.getPayload().getIncidentId() == null) {
+            return;
+        }
+
+        // A new incident cannot be cached yet
+        if (!"INCIDENT_CREATED".equals(event.getEventType())) {
+            responseCache.evictRemote(event.getPayload().getIncidentId());
+        }
+        streamBroadcaster.broadcast(event);
+    }
+}
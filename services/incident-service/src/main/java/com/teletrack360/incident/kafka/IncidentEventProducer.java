@@ -1,34 +1,84 @@
 package com.teletrack360.incident.kafka;
 
-import com.teletrack360.incident.event.IncidentEvent;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.common.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.CompletableFuture;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Stages incident events in the outbox table inside the caller's transaction.
+ * {@link IncidentOutboxRelay} publishes them to Kafka after commit.
+ *
+ * <p>Rows are written with a plain JDBC batch: the outbox keeps its identity ids so the
+ * relay publishes in insertion order, and Hibernate cannot batch identity inserts.
+ *
+ * <p>Records are keyed by incident id, so all events of one incident on a topic land on
+ * the same partition and are consumed in the order they were staged.
+ *
+ * <p>With {@code incident.events.topic-mode} {@code unified} (the default) every event goes
+ * to {@value #UNIFIED_TOPIC} whatever topic the caller names, so an incident's events keep
+ * their order across types; {@code per-type} keeps the separate per-type topics.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class IncidentEventProducer {
-    
-    private final KafkaTemplate<String, IncidentEvent> kafkaTemplate;
-    
+
+    public static final String UNIFIED_TOPIC = "incident-events";
+
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO incident_outbox (topic, event_key, event_type, payload, created_at, attempts) "
+                    + "VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean unified;
+
+    public IncidentEventProducer(JdbcTemplate jdbcTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${incident.events.topic-mode:unified}") String topicMode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.unified = !"per-type".equals(topicMode);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendEvent(String topic, IncidentEvent event) {
-        log.info("Sending event to topic {}: {}", topic, event.getEventType());
-        
-        CompletableFuture<SendResult<String, IncidentEvent>> future = 
-                kafkaTemplate.send(topic, event.getEventId(), event);
-        
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("Event sent successfully: {} to partition: {}", 
-                        event.getEventType(), result.getRecordMetadata().partition());
-            } else {
-                log.error("Failed to send event: {}", event.getEventType(), ex);
-            }
-        });
+        sendEvents(topic, List.of(event));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendEvents(String topic, List<IncidentEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String target = unified ? UNIFIED_TOPIC : topic;
+        log.debug("Staging {} event(s) for topic {}", events.size(), target);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (IncidentEvent event : events) {
+            rows.add(new Object[]{target, String.valueOf(event.getPayload().getIncidentId()),
+                    event.getEventType(), serialize(event), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, rows);
+    }
+
+    private String serialize(IncidentEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Failed to serialize incident event", "EVENT_SERIALIZATION_ERROR", e);
+        }
     }
 }
@@ -0,0 +1,135 @@
+package com.teletrack360.incident.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.common.kafka.IncidentEventDeserializer;
+import com.teletrack360.common.kafka.IncidentEventSchemas;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Writes incident events as Avro, tagged with the {@value IncidentEventSchemas#SCHEMA_HEADER}
+ * header naming the schema, or as untagged JSON when {@value #ENCODING_CONFIG} is
+ * {@code json}. The JSON form is byte-for-byte what Spring's {@code JsonSerializer}
+ * produced before, for consumers that have not been upgraded yet.
+ *
+ * <p>Either way the record carries the event type in the
+ * {@value IncidentEventDeserializer#EVENT_TYPE_HEADER} header, so consumers can route or
+ * skip it without reading the value.
+ */
+public class IncidentEventSerializer implements Serializer<IncidentEvent> {
+
+    public static final String ENCODING_CONFIG = "incident.events.encoding";
+
+    private static final byte[] SCHEMA_ID = IncidentEventSchemas.CURRENT_ID.getBytes(StandardCharsets.UTF_8);
+
+    private final Schema schema = IncidentEventSchemas.current();
+    private final Schema payloadSchema = schema.getField("payload").schema();
+    private final Map<IncidentStatus, GenericData.EnumSymbol> statusSymbols =
+            symbols(IncidentStatus.class, payloadSchema.getField("status").schema());
+    private final Map<IncidentPriority, GenericData.EnumSymbol> prioritySymbols =
+            symbols(IncidentPriority.class, payloadSchema.getField("priority").schema());
+    private final GenericDatumWriter<GenericRecord> writer = new GenericDatumWriter<>(schema);
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    private boolean avro = true;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object encoding = configs.get(ENCODING_CONFIG);
+        avro = encoding == null || !"json".equalsIgnoreCase(encoding.toString());
+    }
+
+    @Override
+    public byte[] serialize(String topic, IncidentEvent event) {
+        return serialize(topic, null, event);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, IncidentEvent event) {
+        if (event == null) {
+            return null;
+        }
+        if (headers != null && event.getEventType() != null) {
+            headers.remove(IncidentEventDeserializer.EVENT_TYPE_HEADER);
+            headers.add(IncidentEventDeserializer.EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        }
+        if (!avro || headers == null) {
+            return toJson(event);
+        }
+        headers.remove(IncidentEventSchemas.SCHEMA_HEADER);
+        headers.add(IncidentEventSchemas.SCHEMA_HEADER, SCHEMA_ID);
+        return toAvro(event);
+    }
+
+    byte[] toAvro(IncidentEvent event) {
+        IncidentEvent.IncidentEventPayload payload = event.getPayload();
+        GenericRecord payloadRecord = new GenericData.Record(payloadSchema);
+        payloadRecord.put("incidentId", payload.getIncidentId());
+        payloadRecord.put("title", payload.getTitle());
+        payloadRecord.put("status", payload.getStatus() != null ? statusSymbols.get(payload.getStatus()) : null);
+        payloadRecord.put("priority", payload.getPriority() != null ? prioritySymbols.get(payload.getPriority()) : null);
+        payloadRecord.put("assignedTo", payload.getAssignedTo());
+        payloadRecord.put("createdBy", payload.getCreatedBy());
+
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("eventId", event.getEventId());
+        record.put("eventType", event.getEventType());
+        record.put("timestamp", IncidentEventSchemas.toMicros(event.getTimestamp()));
+        record.put("payload", payloadRecord);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        try {
+            writer.write(record, encoder);
+            encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Cannot write incident event " + event.getEventId() + " as Avro", e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] toJson(IncidentEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Cannot write incident event " + event.getEventId() + " as JSON", e);
+        }
+    }
+
+    /**
+     * One shared symbol per enum constant; a constant missing from the schema fails here, at startup
+     */
+    private static <E extends Enum<E>> Map<E, GenericData.EnumSymbol> symbols(Class<E> type, Schema union) {
+        Schema enumSchema = union.getTypes().stream()
+                .filter(branch -> branch.getType() == Schema.Type.ENUM)
+                .findFirst()
+                .orElseThrow();
+        Map<E, GenericData.EnumSymbol> symbols = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            if (!enumSchema.hasEnumSymbol(constant.name())) {
+                throw new IllegalStateException(type.getSimpleName() + "." + constant + " is missing from "
+                        + IncidentEventSchemas.CURRENT_ID + "; add a new schema version");
+            }
+            symbols.put(constant, new GenericData.EnumSymbol(enumSchema, constant.name()));
+        }
+        return symbols;
+    }
+}
@@ -0,0 +1,223 @@
+package com.teletrack360.incident.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.incident.entity.OutboxEvent;
+import com.teletrack360.incident.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the incident outbox in batches. Rows are deleted only once Kafka has
+ * acknowledged them (at-least-once delivery).
+ *
+ * <p>A batch is published in waves holding at most one record per event key, all handed
+ * to the producer before any acknowledgement is awaited, so they share broker
+ * round-trips. The next record of a key is sent only after the previous one was
+ * acknowledged; when a record fails, the later records of its key stay in the outbox
+ * and are sent after it, so no incident's events overtake an earlier one that failed.
+ * Records of other keys carry on. A row that fails for a reason other than a transient
+ * broker error counts an attempt, and after {@code incident.outbox.max-attempts} it is
+ * dead-lettered: kept with {@code dead_lettered_at} set and skipped, so it no longer
+ * holds up its incident. The acknowledgements of a batch are awaited for at most
+ * {@code incident.outbox.send-timeout-ms} in total, which bounds how long its row locks
+ * and connection are held.
+ *
+ * <p>Only one instance relays at a time: each batch transaction first takes a
+ * PostgreSQL advisory lock ({@code incident.outbox.leader-lock}), and an instance that
+ * does not get it skips the poll. Two relays draining the outbox side by side could
+ * otherwise publish events of the same incident out of order.
+ */
+@Component
+@Slf4j
+public class IncidentOutboxRelay {
+    
+    // Advisory lock key shared by every incident-service instance
+    static final long RELAY_LOCK_ID = 360_004L;
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, IncidentEvent> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final int maxAttempts;
+    private final boolean leaderLock;
+    
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer batchTimer;
+    private final AtomicLong oldestPendingAgeMs = new AtomicLong();
+    
+    public IncidentOutboxRelay(OutboxEventRepository outboxEventRepository,
+                               KafkaTemplate<String, IncidentEvent> kafkaTemplate,
+                               ObjectMapper objectMapper,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${incident.outbox.batch-size:500}") int batchSize,
+                               @Value("${incident.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+                               @Value("${incident.outbox.max-attempts:10}") int maxAttempts,
+                               @Value("${incident.outbox.leader-lock:true}") boolean leaderLock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.maxAttempts = maxAttempts;
+        this.leaderLock = leaderLock;
+        this.relayedCounter = Counter.builder("incident.outbox.relayed")
+                .description("Outbox events published to Kafka")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("incident.outbox.failed")
+                .description("Outbox events that failed to publish and will be retried")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("incident.outbox.dead-lettered")
+                .description("Outbox events set aside after failing max-attempts times")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("incident.outbox.batch")
+                .description("Time to publish one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("incident.outbox.lag", oldestPendingAgeMs, AtomicLong::get)
+                .description("Age in milliseconds of the oldest event still waiting in the outbox")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+    
+    @Scheduled(fixedDelayString = "${incident.outbox.poll-interval-ms:100}")
+    public void relay() {
+        int relayed;
+        do {
+            Integer result = transactionTemplate.execute(status -> relayBatch());
+            relayed = result != null ? result : 0;
+        } while (relayed == batchSize);
+    }
+    
+    private int relayBatch() {
+        if (leaderLock && !outboxEventRepository.tryRelayLock(RELAY_LOCK_ID)) {
+            log.debug("Another instance is relaying the outbox");
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            oldestPendingAgeMs.set(0L);
+            return 0;
+        }
+        oldestPendingAgeMs.set(Math.max(0L,
+                Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis()));
+        
+        Timer.Sample sample = Timer.start();
+        // Each key's rows in outbox order
+        Map<String, Deque<OutboxEvent>> pending = new LinkedHashMap<>();
+        for (OutboxEvent outboxEvent : batch) {
+            pending.computeIfAbsent(outboxEvent.getEventKey(), key -> new ArrayDeque<>()).add(outboxEvent);
+        }
+        
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> published = new ArrayList<>(batch.size());
+        while (!pending.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            List<OutboxEvent> wave = new ArrayList<>(pending.size());
+            List<CompletableFuture<SendResult<String, IncidentEvent>>> futures = new ArrayList<>(pending.size());
+            for (Deque<OutboxEvent> rows : pending.values()) {
+                wave.add(rows.peekFirst());
+                futures.add(send(rows.peekFirst()));
+            }
+            kafkaTemplate.flush();
+            
+            for (int i = 0; i < wave.size(); i++) {
+                OutboxEvent outboxEvent = wave.get(i);
+                try {
+                    futures.get(i).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    published.add(outboxEvent.getId());
+                    Deque<OutboxEvent> rows = pending.get(outboxEvent.getEventKey());
+                    rows.pollFirst();
+                    if (rows.isEmpty()) {
+                        pending.remove(outboxEvent.getEventKey());
+                    }
+                } catch (InterruptedException e) {
+                    // Rows already acknowledged are still deleted below
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Exception e) {
+                    // The key's later rows stay and are sent after this one
+                    failed(outboxEvent, e);
+                    pending.remove(outboxEvent.getEventKey());
+                }
+            }
+        }
+        
+        if (!published.isEmpty()) {
+            outboxEventRepository.deleteByIdIn(published);
+        }
+        sample.stop(batchTimer);
+        relayedCounter.increment(published.size());
+        failedCounter.increment(batch.size() - published.size());
+        log.debug("Relayed {}/{} outbox events", published.size(), batch.size());
+        
+        return published.size() == batch.size() ? batch.size() : 0;
+    }
+    
+    private void failed(OutboxEvent outboxEvent, Exception e) {
+        if (isTransient(e)) {
+            log.warn("Failed to publish outbox event {} to {}, retrying: {}",
+                    outboxEvent.getId(), outboxEvent.getTopic(), e.toString());
+            return;
+        }
+        // The row is managed, so the change is flushed when the batch commits
+        outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+        if (outboxEvent.getAttempts() < maxAttempts) {
+            log.error("Failed to publish outbox event {} to {} (attempt {})",
+                    outboxEvent.getId(), outboxEvent.getTopic(), outboxEvent.getAttempts(), e);
+            return;
+        }
+        outboxEvent.setDeadLetteredAt(LocalDateTime.now());
+        deadLetteredCounter.increment();
+        log.error("Dead-lettering outbox event {} to {} after {} attempts: {}",
+                outboxEvent.getId(), outboxEvent.getTopic(), outboxEvent.getAttempts(), outboxEvent.getPayload(), e);
+    }
+    
+    /**
+     * Broker and network errors that clear up by themselves; they never dead-letter a row
+     */
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private CompletableFuture<SendResult<String, IncidentEvent>> send(OutboxEvent outboxEvent) {
+        try {
+            IncidentEvent event = objectMapper.readValue(outboxEvent.getPayload(), IncidentEvent.class);
+            return kafkaTemplate.send(outboxEvent.getTopic(), outboxEvent.getEventKey(), event);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.teletrack360.incident.repository;
+
+import com.teletrack360.incident.entity.IncidentAudit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read side of the audit trail; rows are inserted by {@code IncidentAuditWriter}
+ */
+@Repository
+public interface IncidentAuditRepository extends JpaRepository<IncidentAudit, Long> {
+    
+    Page<IncidentAudit> findByIncidentIdOrderByTimestampDescIdDesc(Long incidentId, Pageable pageable);
+}
@@ -1,13 +1,20 @@
 package com.teletrack360.incident.repository;
 
 import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.incident.dto.IncidentSummary;
 import com.teletrack360.incident.entity.Incident;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,8 +23,85 @@ public interface IncidentRepository extends JpaRepository<Incident, Long> {
     @Query("SELECT i FROM Incident i WHERE i.deleted = false")
     Page<Incident> findAllActive(Pageable pageable);
     
+    // Column projection for list views: skips description and the persistence context entirely
+    @Query(value = "SELECT new com.teletrack360.incident.dto.IncidentSummary(i.id, i.title, i.status, i.priority, " +
+                   "i.assignedTo, i.createdBy, i.createdAt, i.updatedAt, i.resolvedAt, i.closedAt, i.version) " +
+                   "FROM Incident i WHERE i.deleted = false",
+           countQuery = "SELECT COUNT(i) FROM Incident i WHERE i.deleted = false")
+    Page<IncidentSummary> findAllActiveSummaries(Pageable pageable);
+    
+    // Keyset pagination over (createdAt, id); callers pass an unsorted Pageable with offset 0
+    @Query("SELECT i FROM Incident i WHERE i.deleted = false ORDER BY i.createdAt DESC, i.id DESC")
+    Slice<Incident> findActiveNewestFirst(Pageable pageable);
+    
+    @Query("SELECT i FROM Incident i WHERE i.deleted = false " +
+           "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    Slice<Incident> findActiveOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                       Pageable pageable);
+    
+    @Query("SELECT i FROM Incident i WHERE i.deleted = false ORDER BY i.createdAt ASC, i.id ASC")
+    Slice<Incident> findActiveOldestFirst(Pageable pageable);
+    
+    @Query("SELECT i FROM Incident i WHERE i.deleted = false " +
+           "AND (i.createdAt > :createdAt OR (i.createdAt = :createdAt AND i.id > :id)) " +
+           "ORDER BY i.createdAt ASC, i.id ASC")
+    Slice<Incident> findActiveNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                       Pageable pageable);
+    
     @Query("SELECT i FROM Incident i WHERE i.id = :id AND i.deleted = false")
-    Optional<Incident> findByIdAndNotDeleted(Long id);
+    Optional<Incident> findByIdAndNotDeleted(@Param("id") Long id);
+    
+    @Query("SELECT i FROM Incident i WHERE i.id IN :ids AND i.deleted = false")
+    List<Incident> findAllActiveByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Assigns an unassigned incident in {@code currentStatus} with one conditional statement, so
+     * concurrent claims race in the database and exactly one wins. Returns the rows updated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Incident i SET i.assignedTo = :assignedTo, i.status = :newStatus, " +
+           "i.updatedBy = :username, i.updatedAt = :now, i.version = i.version + 1 " +
+           "WHERE i.id = :id AND i.status = :currentStatus AND i.assignedTo IS NULL AND i.deleted = false")
+    int assignIfUnassigned(@Param("id") Long id,
+                           @Param("currentStatus") IncidentStatus currentStatus,
+                           @Param("newStatus") IncidentStatus newStatus,
+                           @Param("assignedTo") String assignedTo,
+                           @Param("username") String username,
+                           @Param("now") LocalDateTime now);
+    
+    String UPDATE_STATUS_IF = "UPDATE Incident i SET i.status = :newStatus, " +
+            "i.resolvedAt = COALESCE(:resolvedAt, i.resolvedAt), i.closedAt = COALESCE(:closedAt, i.closedAt), " +
+            "i.updatedBy = :username, i.updatedAt = :now, i.version = i.version + 1 " +
+            "WHERE i.id = :id AND i.status = :currentStatus AND i.deleted = false";
+    
+    /**
+     * Moves an incident from {@code currentStatus} to {@code newStatus} with one conditional
+     * statement. Null timestamps keep the stored value. Returns the rows updated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(UPDATE_STATUS_IF)
+    int updateStatusIf(@Param("id") Long id,
+                       @Param("currentStatus") IncidentStatus currentStatus,
+                       @Param("newStatus") IncidentStatus newStatus,
+                       @Param("resolvedAt") LocalDateTime resolvedAt,
+                       @Param("closedAt") LocalDateTime closedAt,
+                       @Param("username") String username,
+                       @Param("now") LocalDateTime now);
+    
+    /**
+     * {@link #updateStatusIf}, applied only while the incident is at one of {@code versions}
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(UPDATE_STATUS_IF + " AND i.version IN :versions")
+    int updateStatusIfVersionIn(@Param("id") Long id,
+                                @Param("currentStatus") IncidentStatus currentStatus,
+                                @Param("newStatus") IncidentStatus newStatus,
+                                @Param("versions") Collection<Long> versions,
+                                @Param("resolvedAt") LocalDateTime resolvedAt,
+                                @Param("closedAt") LocalDateTime closedAt,
+                                @Param("username") String username,
+                                @Param("now") LocalDateTime now);
     
     Page<Incident> findByStatusAndDeletedFalse(IncidentStatus status, Pageable pageable);
     
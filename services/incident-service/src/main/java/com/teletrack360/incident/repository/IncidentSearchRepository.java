@@ -0,0 +1,140 @@
+package com.teletrack360.incident.repository;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.incident.dto.IncidentFacets;
+import com.teletrack360.incident.dto.IncidentSearchCriteria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Full-text and faceted incident search.
+ *
+ * <p>On PostgreSQL the text query runs against the GIN-indexed {@code search_vector}
+ * column (see changelog 006), which the database maintains on every incident write, and
+ * hits are ranked by relevance. Other databases (H2 in the load harness) fall back to a
+ * case-insensitive substring match ordered by creation time.
+ */
+@Repository
+@Slf4j
+public class IncidentSearchRepository {
+
+    private static final String TS_QUERY = "websearch_to_tsquery('english', :query)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    // Detected on the first search rather than at startup, which needs no connection
+    private volatile Boolean fullTextIndex;
+
+    public IncidentSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Ids of one page of matching incidents, best match first
+     */
+    public List<Long> findIds(IncidentSearchCriteria criteria, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        String where = where(criteria, params);
+        String orderBy = fullTextIndex() && criteria.hasQuery()
+                ? "ts_rank_cd(i.search_vector, " + TS_QUERY + ") DESC, i.created_at DESC, i.id DESC"
+                : "i.created_at DESC, i.id DESC";
+
+        String sql = "SELECT i.id FROM incidents i WHERE " + where
+                + " ORDER BY " + orderBy + " LIMIT :limit OFFSET :offset";
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    /**
+     * The number of matching incidents, for pages that do not show facets
+     */
+    public long countMatches(IncidentSearchCriteria criteria) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM incidents i WHERE " + where(criteria, params), params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Status and priority counts over all matching incidents, from one grouped query
+     */
+    public IncidentFacets countFacets(IncidentSearchCriteria criteria) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT i.status, i.priority, COUNT(*) AS matches FROM incidents i WHERE "
+                + where(criteria, params) + " GROUP BY i.status, i.priority";
+
+        IncidentFacets facets = new IncidentFacets();
+        jdbcTemplate.query(sql, params, rs -> {
+            facets.add(
+                    IncidentStatus.valueOf(rs.getString("status")),
+                    IncidentPriority.valueOf(rs.getString("priority")),
+                    rs.getLong("matches"));
+        });
+        return facets;
+    }
+
+    private String where(IncidentSearchCriteria criteria, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder("i.deleted = false");
+
+        if (criteria.hasQuery()) {
+            if (fullTextIndex()) {
+                params.addValue("query", criteria.getQuery().trim());
+                where.append(" AND i.search_vector @@ ").append(TS_QUERY);
+            } else {
+                params.addValue("pattern", "%" + escapeLike(criteria.getQuery().trim().toLowerCase(Locale.ROOT)) + "%");
+                where.append(" AND (LOWER(i.title) LIKE :pattern ESCAPE '\\'"
+                        + " OR LOWER(i.description) LIKE :pattern ESCAPE '\\')");
+            }
+        }
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            params.addValue("statuses", criteria.getStatuses().stream().map(Enum::name).toList());
+            where.append(" AND i.status IN (:statuses)");
+        }
+        if (criteria.getPriorities() != null && !criteria.getPriorities().isEmpty()) {
+            params.addValue("priorities", criteria.getPriorities().stream().map(Enum::name).toList());
+            where.append(" AND i.priority IN (:priorities)");
+        }
+        if (criteria.getAssignedTo() != null && !criteria.getAssignedTo().isBlank()) {
+            params.addValue("assignedTo", criteria.getAssignedTo());
+            where.append(" AND i.assigned_to = :assignedTo");
+        }
+        if (criteria.getCreatedFrom() != null) {
+            params.addValue("createdFrom", Timestamp.valueOf(criteria.getCreatedFrom()));
+            where.append(" AND i.created_at >= :createdFrom");
+        }
+        if (criteria.getCreatedTo() != null) {
+            params.addValue("createdTo", Timestamp.valueOf(criteria.getCreatedTo()));
+            where.append(" AND i.created_at < :createdTo");
+        }
+        return where.toString();
+    }
+
+    private boolean fullTextIndex() {
+        Boolean detected = fullTextIndex;
+        if (detected == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            detected = "PostgreSQL".equalsIgnoreCase(product);
+            if (!detected) {
+                log.info("{} has no incident search index; text search falls back to LIKE", product);
+            }
+            fullTextIndex = detected;
+        }
+        return detected;
+    }
+
+    /**
+     * Makes {@code %}, {@code _} and the escape character itself match literally
+     */
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
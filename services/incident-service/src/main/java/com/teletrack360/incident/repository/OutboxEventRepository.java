@@ -0,0 +1,32 @@
+package com.teletrack360.incident.repository;
+
+import com.teletrack360.incident.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    /**
+     * Takes the relay's transaction-scoped advisory lock, released when the batch commits.
+     * Returns false when another instance holds it.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockId)", nativeQuery = true)
+    boolean tryRelayLock(@Param("lockId") long lockId);
+    
+    // Runs under the relay lock, so the oldest rows are never skipped in favour of later ones
+    @Query(value = "SELECT * FROM incident_outbox WHERE dead_lettered_at IS NULL "
+            + "ORDER BY id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+    
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,301 @@
+package com.teletrack360.incident.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.exception.BusinessException;
+import com.teletrack360.incident.entity.IncidentAudit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the incident audit trail off the request path.
+ *
+ * <p>Entries recorded in a transaction are queued once it commits, so rolled-back
+ * changes leave no trace. A single writer thread inserts them as JDBC batches of up to
+ * {@code incident.audit.batch-size} rows, or whatever arrived within
+ * {@code incident.audit.flush-interval-ms} of the first queued row.
+ *
+ * <p>The queue is bounded. When it is full a committing request waits up to
+ * {@code incident.audit.offer-timeout-ms} for space, and then writes its remaining entries
+ * itself in a new transaction: a slow database slows writers down instead of losing audit
+ * rows or growing the heap.
+ */
+@Component
+@Slf4j
+public class IncidentAuditWriter implements SmartLifecycle {
+
+    private static final String INSERT_AUDIT = "INSERT INTO incident_audit "
+            + "(incident_id, action, performed_by, timestamp, old_value, new_value, comments) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate fallbackTransaction;
+    private final BlockingQueue<IncidentAudit> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMs;
+
+    private final Counter writtenCounter;
+    private final Counter fallbackCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public IncidentAuditWriter(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${incident.audit.queue-capacity:10000}") int queueCapacity,
+                               @Value("${incident.audit.batch-size:200}") int batchSize,
+                               @Value("${incident.audit.flush-interval-ms:200}") long flushIntervalMs,
+                               @Value("${incident.audit.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fallbackTransaction = new TransactionTemplate(transactionManager);
+        this.fallbackTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.offerTimeoutMs = offerTimeoutMs;
+
+        Gauge.builder("incident.audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("incident.audit.written")
+                .description("Audit entries written by the batch writer")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("incident.audit.fallback")
+                .description("Audit entries written synchronously because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("incident.audit.failed")
+                .description("Audit entries that could not be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("incident.audit.flush")
+                .description("Time taken to write one batch of audit entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a change to an incident. Only the fields whose values differ between
+     * {@code before} and {@code after} are kept; {@code before} is null for a new incident.
+     */
+    public void record(Long incidentId, String action, String performedBy,
+                       Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> oldValues = null;
+        Map<String, Object> newValues = after;
+        if (before != null) {
+            oldValues = new LinkedHashMap<>();
+            newValues = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> field : after.entrySet()) {
+                Object previous = before.get(field.getKey());
+                if (!Objects.equals(previous, field.getValue())) {
+                    oldValues.put(field.getKey(), previous);
+                    newValues.put(field.getKey(), field.getValue());
+                }
+            }
+        }
+
+        IncidentAudit audit = IncidentAudit.builder()
+                .incidentId(incidentId)
+                .action(action)
+                .performedBy(performedBy)
+                .timestamp(LocalDateTime.now())
+                .oldValue(toJson(oldValues))
+                .newValue(toJson(newValues))
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingInTransaction().add(audit);
+        } else {
+            enqueue(List.of(audit));
+        }
+    }
+
+    /**
+     * Entries recorded in the current transaction, handed to the queue in one go on commit
+     */
+    @SuppressWarnings("unchecked")
+    private List<IncidentAudit> pendingInTransaction() {
+        List<IncidentAudit> pending = (List<IncidentAudit>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<IncidentAudit> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(IncidentAuditWriter.this);
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(created);
+                    }
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    void enqueue(List<IncidentAudit> audits) {
+        for (int i = 0; i < audits.size(); i++) {
+            boolean queued;
+            try {
+                queued = running && queue.offer(audits.get(i), offerTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
+            if (!queued) {
+                List<IncidentAudit> overflow = audits.subList(i, audits.size());
+                log.warn("Audit queue full or writer stopped, writing {} entries synchronously", overflow.size());
+                writeFallback(overflow);
+                return;
+            }
+        }
+    }
+
+    private void writeFallback(List<IncidentAudit> audits) {
+        try {
+            // The caller's transaction has already completed; its connection must not be reused
+            fallbackTransaction.executeWithoutResult(status -> insert(audits));
+            fallbackCounter.increment(audits.size());
+        } catch (DataAccessException e) {
+            failed(audits, e);
+        }
+    }
+
+    private void runWriter() {
+        List<IncidentAudit> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                IncidentAudit first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    IncidentAudit next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // Only stop() interrupts, and only after the queue has been given time to drain
+                log.warn("Audit writer interrupted with {} entries queued", queue.size());
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<IncidentAudit> batch) {
+        try {
+            flushTimer.record(() -> insert(batch));
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            failed(batch, e);
+        }
+    }
+
+    private void insert(List<IncidentAudit> audits) {
+        jdbcTemplate.batchUpdate(INSERT_AUDIT, audits, audits.size(), (ps, audit) -> {
+            ps.setLong(1, audit.getIncidentId());
+            ps.setString(2, audit.getAction());
+            ps.setString(3, audit.getPerformedBy());
+            ps.setTimestamp(4, Timestamp.valueOf(audit.getTimestamp()));
+            ps.setString(5, audit.getOldValue());
+            ps.setString(6, audit.getNewValue());
+            ps.setString(7, audit.getComments());
+        });
+    }
+
+    private void failed(List<IncidentAudit> audits, DataAccessException e) {
+        failedCounter.increment(audits.size());
+        // Logged in full so the trail can be restored from the logs
+        log.error("Failed to write {} audit entries: {}", audits.size(), audits, e);
+    }
+
+    private String toJson(Map<String, Object> values) {
+        if (values == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Failed to serialize incident audit values", "AUDIT_SERIALIZATION_ERROR", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "incident-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+        writer = thread;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        writer = null;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            if (thread.isAlive()) {
+                thread.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    @Override
+    public int getPhase() {
+        // Starts before and stops after the web server, so requests still draining at shutdown keep the queue
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
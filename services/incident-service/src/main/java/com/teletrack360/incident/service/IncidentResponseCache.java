@@ -0,0 +1,132 @@
+package com.teletrack360.incident.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teletrack360.incident.dto.IncidentResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of {@link IncidentResponse} keyed by incident id, for the
+ * dashboards that poll the same few active incidents. Cached responses are shared
+ * between callers and must not be modified.
+ *
+ * <p>{@link IncidentService} evicts an id after any transaction that changes it commits;
+ * other instances evict when the matching incident event reaches Kafka
+ * (see {@code IncidentChangeListener}). The write TTL bounds staleness if an
+ * event is ever missed.
+ *
+ * <p>As in the user-service details cache, a miss is loaded by the calling thread outside
+ * Caffeine's map lock, and concurrent misses on the same id share one query.
+ */
+@Component
+@Slf4j
+public class IncidentResponseCache {
+
+    private static final String CACHE_NAME = "incidents";
+
+    private final AsyncCache<Long, IncidentResponse> cache;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+
+    public IncidentResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${incident.cache.maximum-size:10000}") long maximumSize,
+            @Value("${incident.cache.expire-after-write:60s}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Share of lookups served from the cache since startup")
+                .register(meterRegistry);
+        this.localInvalidations = invalidationCounter(meterRegistry, "local");
+        this.remoteInvalidations = invalidationCounter(meterRegistry, "remote");
+    }
+
+    public IncidentResponse get(Long id, Function<Long, IncidentResponse> loader) {
+        CompletableFuture<IncidentResponse> pending = new CompletableFuture<>();
+        CompletableFuture<IncidentResponse> entry = cache.get(id, (key, executor) -> pending);
+        if (entry == pending) {
+            try {
+                pending.complete(loader.apply(id));
+            } catch (RuntimeException e) {
+                // Failed futures are dropped from the cache, so a missing incident is never cached
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(Long id) {
+        evictAll(List.of(id));
+    }
+
+    /**
+     * Evicts the entries once the surrounding transaction commits, so a concurrent
+     * lookup cannot re-cache the pre-commit state.
+     */
+    public void evictAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(ids, localInvalidations);
+                }
+            });
+        } else {
+            invalidate(ids, localInvalidations);
+        }
+    }
+
+    /**
+     * Evicts an entry named in an incident event from Kafka, whichever instance made the change
+     */
+    public void evictRemote(Long id) {
+        invalidate(List.of(id), remoteInvalidations);
+    }
+
+    private void invalidate(Collection<Long> ids, Counter counter) {
+        cache.synchronous().invalidateAll(ids);
+        counter.increment(ids.size());
+        log.debug("Incidents evicted from cache: {}", ids);
+    }
+
+    private static Counter invalidationCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .tag("source", source)
+                .description("Entries explicitly invalidated after an incident changed")
+                .register(meterRegistry);
+    }
+}
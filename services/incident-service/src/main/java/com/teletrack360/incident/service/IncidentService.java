@@ -1,57 +1,83 @@
 package com.teletrack360.incident.service;
 
+import com.teletrack360.common.dto.PageResponse;
 import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.common.exception.ConflictException;
+import com.teletrack360.common.exception.PreconditionFailedException;
 import com.teletrack360.common.exception.ResourceNotFoundException;
+import com.teletrack360.common.exception.ValidationException;
 import com.teletrack360.common.util.CorrelationIdGenerator;
+import com.teletrack360.incident.dto.BulkItemResult;
+import com.teletrack360.incident.dto.BulkOperationResponse;
 import com.teletrack360.incident.dto.CreateIncidentRequest;
+import com.teletrack360.incident.dto.IncidentAuditResponse;
+import com.teletrack360.incident.dto.IncidentCursor;
+import com.teletrack360.incident.dto.IncidentFacets;
 import com.teletrack360.incident.dto.IncidentResponse;
+import com.teletrack360.incident.dto.IncidentSearchCriteria;
+import com.teletrack360.incident.dto.IncidentSearchResponse;
+import com.teletrack360.incident.dto.IncidentSummary;
 import com.teletrack360.incident.dto.UpdateIncidentRequest;
 import com.teletrack360.incident.entity.Incident;
-import com.teletrack360.incident.event.IncidentEvent;
+import com.teletrack360.incident.entity.IncidentAudit;
 import com.teletrack360.incident.kafka.IncidentEventProducer;
+import com.teletrack360.incident.repository.IncidentAuditRepository;
 import com.teletrack360.incident.repository.IncidentRepository;
+import com.teletrack360.incident.repository.IncidentSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class IncidentService {
     
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final IncidentRepository incidentRepository;
+    private final IncidentSearchRepository searchRepository;
+    private final IncidentResponseCache responseCache;
     private final IncidentEventProducer eventProducer;
+    private final IncidentAuditWriter auditWriter;
+    private final IncidentAuditRepository auditRepository;
     
     @Transactional
     public IncidentResponse createIncident(CreateIncidentRequest request, String username) {
-        Incident incident = Incident.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .status(IncidentStatus.OPEN)
-                .priority(request.getPriority())
-                .createdBy(username)
-                .build();
-        
-        Incident saved = incidentRepository.save(incident);
+        Incident saved = incidentRepository.save(newIncident(request, username));
         log.info("Incident created with ID: {}", saved.getId());
         
         // Publish event
         IncidentEvent event = buildEvent("INCIDENT_CREATED", saved);
         eventProducer.sendEvent("incident-created", event);
+        auditWriter.record(saved.getId(), "CREATED", username, null, auditSnapshot(saved));
         
         return mapToResponse(saved);
     }
     
-    @Transactional(readOnly = true)
+    // Not transactional: a cache hit must not check out a database connection
     public IncidentResponse getIncidentById(Long id) {
-        Incident incident = incidentRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Incident", id));
-        return mapToResponse(incident);
+        return responseCache.get(id, key -> mapToResponse(incidentRepository.findByIdAndNotDeleted(key)
+                .orElseThrow(() -> new ResourceNotFoundException("Incident", key))));
     }
     
     @Transactional(readOnly = true)
@@ -60,10 +86,81 @@ public class IncidentService {
                 .map(this::mapToResponse);
     }
     
+    /**
+     * List page for a {@code fields} selection, served from a column projection
+     */
+    @Transactional(readOnly = true)
+    public Page<IncidentSummary> getIncidentSummaries(Pageable pageable, Set<String> fields) {
+        IncidentSummary.validateFields(fields);
+        return incidentRepository.findAllActiveSummaries(pageable);
+    }
+    
+    @Transactional(readOnly = true)
+    public Slice<IncidentResponse> getIncidentsAfter(IncidentCursor after, int size, Sort.Direction direction) {
+        if (size < 1) {
+            throw new ValidationException("Page size must be at least 1");
+        }
+        Pageable limit = PageRequest.of(0, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Slice<Incident> slice;
+        if (direction == Sort.Direction.ASC) {
+            slice = after == null
+                    ? incidentRepository.findActiveOldestFirst(limit)
+                    : incidentRepository.findActiveNewerThan(after.getCreatedAt(), after.getId(), limit);
+        } else {
+            slice = after == null
+                    ? incidentRepository.findActiveNewestFirst(limit)
+                    : incidentRepository.findActiveOlderThan(after.getCreatedAt(), after.getId(), limit);
+        }
+        return slice.map(this::mapToResponse);
+    }
+    
+    /**
+     * One page of hits. Facet counts cost a grouped query over every match, so they are
+     * computed only when {@code withFacets} is set; otherwise a plain count gives the total.
+     */
+    @Transactional(readOnly = true)
+    public IncidentSearchResponse searchIncidents(IncidentSearchCriteria criteria, int page, int size,
+                                                  boolean withFacets) {
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        IncidentFacets facets = withFacets ? searchRepository.countFacets(criteria) : null;
+        long total = facets != null ? facets.getTotal() : searchRepository.countMatches(criteria);
+        
+        List<IncidentResponse> hits = List.of();
+        if (total > (long) pageNumber * pageSize) {
+            // The index yields ranked ids; rows are then loaded by primary key and put back in rank order
+            List<Long> ids = searchRepository.findIds(criteria, (long) pageNumber * pageSize, pageSize);
+            Map<Long, Incident> byId = incidentRepository.findAllActiveByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Incident::getId, Function.identity()));
+            hits = ids.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(this::mapToResponse)
+                    .toList();
+        }
+        
+        return IncidentSearchResponse.builder()
+                .results(PageResponse.of(hits, pageNumber, pageSize, total))
+                .statusCounts(facets != null ? facets.getStatusCounts() : null)
+                .priorityCounts(facets != null ? facets.getPriorityCounts() : null)
+                .build();
+    }
+    
+    @Transactional(readOnly = true)
+    public Page<IncidentAuditResponse> getAuditHistory(Long incidentId, Pageable pageable) {
+        return auditRepository.findByIncidentIdOrderByTimestampDescIdDesc(incidentId, pageable)
+                .map(this::mapToAuditResponse);
+    }
+    
+    /**
+     * Applies {@code request} to the incident. When {@code expectedVersions} is given (from
+     * {@code If-Match}) the incident must still be at one of those versions; a change committed
+     * between the read and the write fails the optimistic lock instead of being overwritten.
+     */
     @Transactional
-    public IncidentResponse updateIncident(Long id, UpdateIncidentRequest request, String username) {
-        Incident incident = incidentRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Incident", id));
+    public IncidentResponse updateIncident(Long id, UpdateIncidentRequest request, Set<Long> expectedVersions, String username) {
+        Incident incident = findForUpdate(id, expectedVersions);
+        Map<String, Object> before = auditSnapshot(incident);
         
         if (request.getTitle() != null) {
             incident.setTitle(request.getTitle());
@@ -76,64 +173,272 @@ public class IncidentService {
         }
         
         incident.setUpdatedBy(username);
-        Incident updated = incidentRepository.save(incident);
+        // Flushed here so the response carries the new version
+        Incident updated = incidentRepository.saveAndFlush(incident);
         
         // Publish event
         IncidentEvent event = buildEvent("INCIDENT_UPDATED", updated);
         eventProducer.sendEvent("incident-updated", event);
+        responseCache.evict(id);
+        auditWriter.record(id, "UPDATED", username, before, auditSnapshot(updated));
         
         return mapToResponse(updated);
     }
     
     @Transactional
-    public IncidentResponse updateStatus(Long id, IncidentStatus newStatus, String username) {
-        Incident incident = incidentRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Incident", id));
-        
-        incident.setStatus(newStatus);
-        incident.setUpdatedBy(username);
+    public IncidentResponse updateStatus(Long id, IncidentStatus newStatus, Set<Long> expectedVersions, String username) {
+        Incident incident = findForUpdate(id, expectedVersions);
+        Map<String, Object> before = auditSnapshot(incident);
         
-        if (newStatus == IncidentStatus.RESOLVED) {
-            incident.setResolvedAt(LocalDateTime.now());
-            IncidentEvent event = buildEvent("INCIDENT_RESOLVED", incident);
-            eventProducer.sendEvent("incident-resolved", event);
-        } else if (newStatus == IncidentStatus.CLOSED) {
-            incident.setClosedAt(LocalDateTime.now());
-        }
+        IncidentEvent event = applyStatus(incident, newStatus, username);
+        eventProducer.sendEvent(statusTopic(newStatus), event);
+        responseCache.evict(id);
+        auditWriter.record(id, "STATUS_CHANGED", username, before, auditSnapshot(incident));
         
-        Incident updated = incidentRepository.save(incident);
+        Incident updated = incidentRepository.saveAndFlush(incident);
         return mapToResponse(updated);
     }
     
+    /**
+     * Moves the incident to {@code newStatus} only if it is still in {@code expectedStatus}
+     * (and at one of {@code expectedVersions}, when given). Checked and applied by a single UPDATE
+     * without reading the row first; the row is read back only to build the response.
+     */
     @Transactional
-    public IncidentResponse assignIncident(Long id, String assignedTo, String username) {
-        Incident incident = incidentRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Incident", id));
+    public IncidentResponse updateStatusIf(Long id, IncidentStatus expectedStatus, IncidentStatus newStatus,
+                                           Set<Long> expectedVersions, String username) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime resolvedAt = newStatus == IncidentStatus.RESOLVED ? now : null;
+        LocalDateTime closedAt = newStatus == IncidentStatus.CLOSED ? now : null;
+        int updated = expectedVersions == null
+                ? incidentRepository.updateStatusIf(id, expectedStatus, newStatus, resolvedAt, closedAt, username, now)
+                : incidentRepository.updateStatusIfVersionIn(id, expectedStatus, newStatus, expectedVersions,
+                        resolvedAt, closedAt, username, now);
+        Incident incident = requireUpdated(updated, id, expectedVersions,
+                String.format("Incident %d is no longer %s", id, expectedStatus));
         
-        incident.setAssignedTo(assignedTo);
-        incident.setUpdatedBy(username);
-        if (incident.getStatus() == IncidentStatus.OPEN) {
-            incident.setStatus(IncidentStatus.IN_PROGRESS);
-        }
+        eventProducer.sendEvent(statusTopic(newStatus), buildEvent(statusEventType(newStatus), incident));
+        responseCache.evict(id);
+        Map<String, Object> before = auditSnapshot(incident);
+        before.put("status", expectedStatus);
+        auditWriter.record(id, "STATUS_CHANGED", username, before, auditSnapshot(incident));
         
-        Incident updated = incidentRepository.save(incident);
+        return mapToResponse(incident);
+    }
+    
+    @Transactional
+    public IncidentResponse assignIncident(Long id, String assignedTo, Set<Long> expectedVersions, String username) {
+        Incident incident = findForUpdate(id, expectedVersions);
+        Map<String, Object> before = auditSnapshot(incident);
+        
+        IncidentEvent event = applyAssignment(incident, assignedTo, username);
+        Incident updated = incidentRepository.saveAndFlush(incident);
         
         // Publish event
-        IncidentEvent event = buildEvent("INCIDENT_ASSIGNED", updated);
         eventProducer.sendEvent("incident-assigned", event);
+        responseCache.evict(id);
+        auditWriter.record(id, "ASSIGNED", username, before, auditSnapshot(updated));
         
         return mapToResponse(updated);
     }
     
+    /**
+     * Assigns the incident only if it is still open and unassigned, with a single conditional
+     * UPDATE: of several operators claiming the same incident exactly one succeeds, and the
+     * others get a conflict rather than silently reassigning it.
+     */
+    @Transactional
+    public IncidentResponse claimIncident(Long id, String assignedTo, String username) {
+        int updated = incidentRepository.assignIfUnassigned(id, IncidentStatus.OPEN, IncidentStatus.IN_PROGRESS,
+                assignedTo, username, LocalDateTime.now());
+        Incident incident = requireUpdated(updated, id, null,
+                String.format("Incident %d is no longer open and unassigned", id));
+        
+        eventProducer.sendEvent("incident-assigned", buildEvent("INCIDENT_ASSIGNED", incident));
+        responseCache.evict(id);
+        Map<String, Object> before = auditSnapshot(incident);
+        before.put("status", IncidentStatus.OPEN);
+        before.put("assignedTo", null);
+        auditWriter.record(id, "ASSIGNED", username, before, auditSnapshot(incident));
+        
+        return mapToResponse(incident);
+    }
+    
+    @Transactional
+    public void deleteIncident(Long id, Set<Long> expectedVersions, String username) {
+        Incident incident = findForUpdate(id, expectedVersions);
+        Map<String, Object> before = auditSnapshot(incident);
+        incident.setDeleted(true);
+        incidentRepository.saveAndFlush(incident);
+        
+        // Lets other instances drop the incident from their caches
+        eventProducer.sendEvent("incident-updated", buildEvent("INCIDENT_DELETED", incident));
+        responseCache.evict(id);
+        auditWriter.record(id, "DELETED", username, before, auditSnapshot(incident));
+    }
+    
     @Transactional
-    public void deleteIncident(Long id) {
+    public BulkOperationResponse bulkCreateIncidents(List<CreateIncidentRequest> requests, String username) {
+        List<Incident> saved = incidentRepository.saveAllAndFlush(requests.stream()
+                .map(request -> newIncident(request, username))
+                .toList());
+        log.info("Bulk created {} incidents", saved.size());
+        
+        eventProducer.sendEvents("incident-created", saved.stream()
+                .map(incident -> buildEvent("INCIDENT_CREATED", incident))
+                .toList());
+        for (Incident incident : saved) {
+            auditWriter.record(incident.getId(), "CREATED", username, null, auditSnapshot(incident));
+        }
+        
+        return BulkOperationResponse.of(saved.stream()
+                .map(incident -> BulkItemResult.success(mapToResponse(incident)))
+                .toList());
+    }
+    
+    @Transactional
+    public BulkOperationResponse bulkAssign(List<Long> ids, String assignedTo, String username) {
+        return applyToAll(ids, "incident-assigned", "ASSIGNED", username, true,
+                incident -> applyAssignment(incident, assignedTo, username));
+    }
+    
+    @Transactional
+    public BulkOperationResponse bulkUpdateStatus(List<Long> ids, IncidentStatus newStatus, String username) {
+        return applyToAll(ids, statusTopic(newStatus), "STATUS_CHANGED", username, true,
+                incident -> applyStatus(incident, newStatus, username));
+    }
+    
+    @Transactional
+    public BulkOperationResponse bulkDelete(List<Long> ids, String username) {
+        return applyToAll(ids, "incident-updated", "DELETED", username, false, incident -> {
+            incident.setDeleted(true);
+            return buildEvent("INCIDENT_DELETED", incident);
+        });
+    }
+    
+    /**
+     * Loads the active incidents among {@code ids} with one query, applies {@code change} to
+     * each, flushes the updates as a JDBC batch and stages the resulting events together.
+     * Each change is audited as {@code auditAction}. Unknown or deleted ids fail individually
+     * without affecting the others.
+     */
+    private BulkOperationResponse applyToAll(List<Long> ids, String topic, String auditAction, String username,
+                                             boolean includeIncident, Function<Incident, IncidentEvent> change) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, Incident> loaded = incidentRepository.findAllActiveByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(Incident::getId, Function.identity()));
+        // Changes, audit rows and events follow the order the ids were requested in
+        Map<Long, Incident> found = new LinkedHashMap<>();
+        for (Long id : distinctIds) {
+            Incident incident = loaded.get(id);
+            if (incident != null) {
+                found.put(id, incident);
+            }
+        }
+        
+        List<IncidentEvent> events = new ArrayList<>();
+        for (Incident incident : found.values()) {
+            Map<String, Object> before = auditSnapshot(incident);
+            events.add(change.apply(incident));
+            auditWriter.record(incident.getId(), auditAction, username, before, auditSnapshot(incident));
+        }
+        incidentRepository.saveAllAndFlush(found.values());
+        eventProducer.sendEvents(topic, events);
+        responseCache.evictAll(List.copyOf(found.keySet()));
+        log.info("Bulk updated {} of {} incidents", found.size(), distinctIds.size());
+        
+        List<BulkItemResult> results = new ArrayList<>(distinctIds.size());
+        for (Long id : distinctIds) {
+            Incident incident = found.get(id);
+            if (incident == null) {
+                ResourceNotFoundException notFound = new ResourceNotFoundException("Incident", id);
+                results.add(BulkItemResult.failure(id, notFound.getErrorCode(), notFound.getMessage()));
+            } else if (includeIncident) {
+                results.add(BulkItemResult.success(mapToResponse(incident)));
+            } else {
+                results.add(BulkItemResult.builder().id(id).success(true).build());
+            }
+        }
+        return BulkOperationResponse.of(results);
+    }
+    
+    private Incident findForUpdate(Long id, Set<Long> expectedVersions) {
         Incident incident = incidentRepository.findByIdAndNotDeleted(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Incident", id));
-        incident.setDeleted(true);
-        incidentRepository.save(incident);
+        checkVersion(incident, expectedVersions);
+        return incident;
+    }
+    
+    private static void checkVersion(Incident incident, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(incident.getVersion())) {
+            throw new PreconditionFailedException(String.format(
+                    "Incident %d has been modified: version is %d, not one of %s",
+                    incident.getId(), incident.getVersion(), expectedVersions));
+        }
+    }
+    
+    /**
+     * Reads back the row changed by a conditional UPDATE. Only when nothing was updated does
+     * it work out why: the incident is gone, is at none of {@code expectedVersions}, or
+     * otherwise no longer meets the condition.
+     */
+    private Incident requireUpdated(int updated, Long id, Set<Long> expectedVersions, String conflictMessage) {
+        Incident incident = incidentRepository.findByIdAndNotDeleted(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Incident", id));
+        if (updated == 0) {
+            checkVersion(incident, expectedVersions);
+            throw new ConflictException(conflictMessage);
+        }
+        return incident;
+    }
+    
+    private Incident newIncident(CreateIncidentRequest request, String username) {
+        return Incident.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(IncidentStatus.OPEN)
+                .priority(request.getPriority())
+                .createdBy(username)
+                .build();
+    }
+    
+    /**
+     * Moves an incident to {@code newStatus}; returns the event to publish on {@link #statusTopic}.
+     */
+    private IncidentEvent applyStatus(Incident incident, IncidentStatus newStatus, String username) {
+        incident.setStatus(newStatus);
+        incident.setUpdatedBy(username);
+        
+        if (newStatus == IncidentStatus.RESOLVED) {
+            incident.setResolvedAt(LocalDateTime.now());
+        } else if (newStatus == IncidentStatus.CLOSED) {
+            incident.setClosedAt(LocalDateTime.now());
+        }
+        return buildEvent(statusEventType(newStatus), incident);
     }
     
-    private IncidentEvent buildEvent(String eventType, Incident incident) {
+    private static String statusEventType(IncidentStatus newStatus) {
+        return switch (newStatus) {
+            case RESOLVED -> "INCIDENT_RESOLVED";
+            case CLOSED -> "INCIDENT_CLOSED";
+            default -> "INCIDENT_STATUS_CHANGED";
+        };
+    }
+    
+    private static String statusTopic(IncidentStatus newStatus) {
+        return newStatus == IncidentStatus.RESOLVED ? "incident-resolved" : "incident-updated";
+    }
+    
+    private IncidentEvent applyAssignment(Incident incident, String assignedTo, String username) {
+        incident.setAssignedTo(assignedTo);
+        incident.setUpdatedBy(username);
+        if (incident.getStatus() == IncidentStatus.OPEN) {
+            incident.setStatus(IncidentStatus.IN_PROGRESS);
+        }
+        return buildEvent("INCIDENT_ASSIGNED", incident);
+    }
+    
+    IncidentEvent buildEvent(String eventType, Incident incident) {
         return IncidentEvent.builder()
                 .eventId(CorrelationIdGenerator.generate())
                 .eventType(eventType)
@@ -149,7 +454,34 @@ public class IncidentService {
                 .build();
     }
     
-    private IncidentResponse mapToResponse(Incident incident) {
+    /**
+     * The audited fields of an incident; nulls are kept so a cleared field shows up in the diff
+     */
+    private static Map<String, Object> auditSnapshot(Incident incident) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("title", incident.getTitle());
+        snapshot.put("description", incident.getDescription());
+        snapshot.put("status", incident.getStatus());
+        snapshot.put("priority", incident.getPriority());
+        snapshot.put("assignedTo", incident.getAssignedTo());
+        snapshot.put("deleted", incident.getDeleted());
+        return snapshot;
+    }
+    
+    private IncidentAuditResponse mapToAuditResponse(IncidentAudit audit) {
+        return IncidentAuditResponse.builder()
+                .id(audit.getId())
+                .incidentId(audit.getIncidentId())
+                .action(audit.getAction())
+                .performedBy(audit.getPerformedBy())
+                .timestamp(audit.getTimestamp())
+                .oldValue(audit.getOldValue())
+                .newValue(audit.getNewValue())
+                .comments(audit.getComments())
+                .build();
+    }
+    
+    IncidentResponse mapToResponse(Incident incident) {
         return IncidentResponse.builder()
                 .id(incident.getId())
                 .title(incident.getTitle())
@@ -162,6 +494,7 @@ public class IncidentService {
                 .updatedAt(incident.getUpdatedAt())
                 .resolvedAt(incident.getResolvedAt())
                 .closedAt(incident.getClosedAt())
+                .version(incident.getVersion())
                 .build();
     }
 }
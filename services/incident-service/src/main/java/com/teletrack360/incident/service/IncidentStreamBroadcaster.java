@@ -0,0 +1,304 @@
+package com.teletrack360.incident.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.incident.dto.IncidentStreamFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans incident events out to Server-Sent Events subscribers.
+ *
+ * <p>Events arrive from the instance's single Kafka consumer and are serialized once,
+ * then queued to every subscriber whose filter matches. A small pool of sender threads
+ * writes the queues out, so an idle subscriber holds no thread, only its emitter and an
+ * empty queue. A sender writes at most {@code incident.stream.drain-batch-size} events, or
+ * for at most {@code incident.stream.drain-time-slice-ms}, to one subscriber before moving
+ * it to the back of the line, so a busy stream cannot starve the others.
+ *
+ * <p>A subscriber whose queue reaches {@code incident.stream.buffer-size} is too slow to
+ * keep up, and one whose write has not returned within {@code incident.stream.send-timeout-ms}
+ * has stalled; both are disconnected rather than allowed to hold memory or senders, and
+ * clients reconnect with the usual EventSource retry. Evicted streams are completed on a
+ * separate closer thread, since completing waits for any write still in progress.
+ */
+@Component
+@Slf4j
+public class IncidentStreamBroadcaster {
+
+    private static final StreamMessage HEARTBEAT = new StreamMessage(null, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final int drainBatchSize;
+    private final long drainTimeSliceNanos;
+    private final long sendTimeoutNanos;
+    private final ExecutorService senders;
+    private final ExecutorService closer;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Reserved before a subscriber is added, so concurrent subscribes cannot overshoot the maximum
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter evictedCounter;
+    private final Counter stalledCounter;
+
+    public IncidentStreamBroadcaster(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${incident.stream.max-subscribers:20000}") int maxSubscribers,
+            @Value("${incident.stream.buffer-size:1024}") int bufferSize,
+            @Value("${incident.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${incident.stream.sender-threads:4}") int senderThreads,
+            @Value("${incident.stream.drain-batch-size:64}") int drainBatchSize,
+            @Value("${incident.stream.drain-time-slice-ms:50}") long drainTimeSliceMs,
+            @Value("${incident.stream.send-timeout-ms:10000}") long sendTimeoutMs
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.drainBatchSize = Math.max(1, drainBatchSize);
+        this.drainTimeSliceNanos = TimeUnit.MILLISECONDS.toNanos(drainTimeSliceMs);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("incident-stream-");
+        threadFactory.setDaemon(true);
+        this.senders = Executors.newFixedThreadPool(senderThreads, threadFactory);
+        CustomizableThreadFactory closerFactory = new CustomizableThreadFactory("incident-stream-closer-");
+        closerFactory.setDaemon(true);
+        this.closer = Executors.newSingleThreadExecutor(closerFactory);
+
+        Gauge.builder("incident.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open incident event streams")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("incident.stream.evicted")
+                .description("Streams closed because the subscriber fell too far behind")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("incident.stream.stalled")
+                .description("Streams closed because a write to the subscriber did not complete in time")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream, or returns null when this instance already serves its maximum
+     */
+    public SseEmitter subscribe(IncidentStreamFilter filter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        subscribers.add(subscriber);
+        // Commits the response headers right away so proxies and clients see the stream open
+        subscriber.enqueue(HEARTBEAT);
+        return emitter;
+    }
+
+    public void broadcast(IncidentEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        StreamMessage message;
+        try {
+            message = new StreamMessage(event.getEventId(), event.getEventType(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.warn("Cannot stream incident event {}", event.getEventId(), e);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter.matches(event)) {
+                subscriber.enqueue(message);
+            }
+        }
+    }
+
+    /**
+     * Keeps idle streams alive through proxies and detects clients that have gone away
+     */
+    @Scheduled(fixedRateString = "${incident.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(HEARTBEAT);
+        }
+    }
+
+    /**
+     * Disconnects subscribers whose current write has been blocked longer than the send timeout
+     */
+    @Scheduled(fixedRateString = "${incident.stream.stall-check-interval-ms:1000}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.stalledAt(now) && evict(subscriber, stalledCounter)) {
+                log.debug("Closing incident stream whose write has not completed in {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        }
+        senders.shutdown();
+        closer.shutdown();
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean evict(Subscriber subscriber, Counter counter) {
+        if (!remove(subscriber)) {
+            return false;
+        }
+        counter.increment();
+        // Completing waits for any write in progress, so keep it off the Kafka consumer and sender threads
+        try {
+            closer.execute(subscriber.emitter::complete);
+        } catch (RejectedExecutionException e) {
+            log.debug("Incident stream closer is shut down");
+        }
+        return true;
+    }
+
+    private void execute(Runnable task) {
+        try {
+            senders.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Incident stream senders are shut down");
+        }
+    }
+
+    /**
+     * An event serialized once and shared by every subscriber it is queued to
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class StreamMessage {
+        private final String id;
+        private final String name;
+        private final String json;
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final IncidentStreamFilter filter;
+        private final Queue<StreamMessage> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean sending;
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter, IncidentStreamFilter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        void enqueue(StreamMessage message) {
+            if (closed) {
+                return;
+            }
+            if (buffered.incrementAndGet() > bufferSize) {
+                buffered.decrementAndGet();
+                if (evict(this, evictedCounter)) {
+                    log.debug("Closing incident stream that fell {} events behind", bufferSize);
+                }
+                return;
+            }
+            buffer.add(message);
+            if (draining.compareAndSet(false, true)) {
+                execute(this::drain);
+            }
+        }
+
+        boolean stalledAt(long now) {
+            return sending && now - sendStartedAt > sendTimeoutNanos;
+        }
+
+        private void drain() {
+            long deadline = System.nanoTime() + drainTimeSliceNanos;
+            try {
+                for (int sent = 0; sent < drainBatchSize && System.nanoTime() - deadline < 0; sent++) {
+                    StreamMessage message = buffer.poll();
+                    if (message == null) {
+                        break;
+                    }
+                    buffered.decrementAndGet();
+                    if (closed) {
+                        return;
+                    }
+                    send(message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client disconnected or the emitter already completed
+                remove(this);
+                return;
+            }
+            if (buffer.isEmpty()) {
+                draining.set(false);
+                // An event queued after the last poll but before the flag was cleared would be stranded
+                if (buffer.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+            // Out of budget with events left: queue up behind the other subscribers' passes
+            execute(this::drain);
+        }
+
+        private void send(StreamMessage message) throws IOException {
+            sendStartedAt = System.nanoTime();
+            sending = true;
+            try {
+                emitter.send(message == HEARTBEAT
+                        ? SseEmitter.event().comment("heartbeat")
+                        : SseEmitter.event().id(message.getId()).name(message.getName())
+                                .data(message.getJson(), MediaType.APPLICATION_JSON));
+            } finally {
+                sending = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.teletrack360.incident.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.exception.ValidationException;
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import com.teletrack360.incident.dto.IncidentResponse;
+import com.teletrack360.incident.dto.IncidentSearchResponse;
+import com.teletrack360.incident.dto.UpdateIncidentRequest;
+import com.teletrack360.incident.service.IncidentService;
+import com.teletrack360.incident.service.IncidentStreamBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(IncidentController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class IncidentControllerTest {
+
+    private static final Authentication OPERATOR =
+            new UsernamePasswordAuthenticationToken("operator", null, List.of());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private IncidentService incidentService;
+
+    @MockBean
+    private IncidentStreamBroadcaster streamBroadcaster;
+
+    @MockBean
+    private GatewayAuthHeaders gatewayAuthHeaders;
+
+    @MockBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    private IncidentResponse incident;
+
+    @BeforeEach
+    void setUp() {
+        incident = incident(1L, 4L);
+    }
+
+    @Test
+    void getIncidentById_IfNoneMatchCurrentVersion_ReturnsNotModified() throws Exception {
+        // Arrange
+        when(incidentService.getIncidentById(1L)).thenReturn(incident);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/incidents/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getIncidentById_VersionBumped_ReturnsBodyWithNewTag() throws Exception {
+        // Arrange
+        when(incidentService.getIncidentById(1L)).thenReturn(incident(1L, 5L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/incidents/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"4\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(jsonPath("$.data.version").value(5));
+    }
+
+    @Test
+    void getAllIncidents_IfNoneMatchCurrentPage_ReturnsNotModified() throws Exception {
+        // Arrange
+        when(incidentService.getAllIncidents(any())).thenReturn(page(2, incident, incident(2L, 1L)));
+        String eTag = listETag();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/incidents").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllIncidents_IncidentOnPageUpdated_ChangesTag() throws Exception {
+        // Arrange
+        when(incidentService.getAllIncidents(any()))
+                .thenReturn(page(2, incident, incident(2L, 1L)), page(2, incident(1L, 5L), incident(2L, 1L)));
+        String before = listETag();
+
+        // Act & Assert
+        String after = mockMvc.perform(get("/api/v1/incidents").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void getAllIncidents_IncidentDeletedOffPage_ChangesTag() throws Exception {
+        // Arrange: the page is the same, but an incident on a later page was deleted
+        when(incidentService.getAllIncidents(any()))
+                .thenReturn(page(3, incident, incident(2L, 1L)), page(2, incident, incident(2L, 1L)));
+        String before = listETag();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/incidents").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2));
+    }
+
+    @Test
+    void getIncidentsByCursor_IfNoneMatchCurrentSlice_ReturnsNotModified() throws Exception {
+        // Arrange
+        when(incidentService.getIncidentsAfter(isNull(), eq(20), any()))
+                .thenReturn(new SliceImpl<>(List.of(incident), PageRequest.of(0, 20), false));
+        String eTag = mockMvc.perform(get("/api/v1/incidents/cursor"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/incidents/cursor").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void updateIncident_IfMatchList_AcceptsAnyStrongTag() throws Exception {
+        // Arrange
+        when(incidentService.updateIncident(eq(1L), any(), eq(Set.of(3L, 4L)), eq("operator"))).thenReturn(incident);
+
+        // Act & Assert
+        mockMvc.perform(update(1L).header(HttpHeaders.IF_MATCH, "\"3\", \"4\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void updateIncident_WeakIfMatch_NeverMatches() throws Exception {
+        // Act & Assert
+        mockMvc.perform(update(1L).header(HttpHeaders.IF_MATCH, "W/\"4\""))
+                .andExpect(status().isPreconditionFailed());
+        verify(incidentService, never()).updateIncident(any(), any(), any(), any());
+    }
+
+    @Test
+    void updateIncident_WeakTagsInList_AreIgnored() throws Exception {
+        // Arrange
+        when(incidentService.updateIncident(eq(1L), any(), eq(Set.of(4L)), eq("operator"))).thenReturn(incident);
+
+        // Act & Assert
+        mockMvc.perform(update(1L).header(HttpHeaders.IF_MATCH, "W/\"3\", \"4\", \"not-ours\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateIncident_IfMatchAny_IsUnconditional() throws Exception {
+        // Arrange
+        when(incidentService.updateIncident(eq(1L), any(), isNull(), eq("operator"))).thenReturn(incident);
+
+        // Act & Assert
+        mockMvc.perform(update(1L).header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getIncidentsByCursor_SizeBelowOne_ReturnsBadRequest() throws Exception {
+        // Arrange
+        when(incidentService.getIncidentsAfter(isNull(), eq(0), any()))
+                .thenThrow(new ValidationException("Page size must be at least 1"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/incidents/cursor").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void searchIncidents_FacetsOnFirstPageUnlessAsked() throws Exception {
+        // Arrange
+        when(incidentService.searchIncidents(any(), anyInt(), anyInt(), anyBoolean()))
+                .thenReturn(IncidentSearchResponse.builder().build());
+
+        // Act
+        mockMvc.perform(get("/api/v1/incidents/search").param("q", "router")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/incidents/search").param("q", "router").param("page", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/incidents/search").param("q", "router").param("page", "1")
+                .param("facets", "true")).andExpect(status().isOk());
+
+        // Assert
+        verify(incidentService).searchIncidents(any(), eq(0), eq(20), eq(true));
+        verify(incidentService).searchIncidents(any(), eq(1), eq(20), eq(false));
+        verify(incidentService).searchIncidents(any(), eq(1), eq(20), eq(true));
+    }
+
+    private String listETag() throws Exception {
+        return mockMvc.perform(get("/api/v1/incidents"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static Page<IncidentResponse> page(long total, IncidentResponse... incidents) {
+        // A full page, so PageImpl keeps the total as given
+        return new PageImpl<>(List.of(incidents), PageRequest.of(0, incidents.length), total);
+    }
+
+    private MockHttpServletRequestBuilder update(Long id) throws Exception {
+        return put("/api/v1/incidents/{id}", id)
+                .principal(OPERATOR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(UpdateIncidentRequest.builder().title("Renamed").build()));
+    }
+
+    private static IncidentResponse incident(Long id, Long version) {
+        return IncidentResponse.builder()
+                .id(id)
+                .title("Core router packet loss")
+                .status(IncidentStatus.OPEN)
+                .priority(IncidentPriority.HIGH)
+                .createdBy("noc.operator")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 9, 30))
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.teletrack360.incident.dto;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncidentStreamFilterTest {
+
+    private final IncidentEvent event = IncidentEvent.builder()
+            .eventId("event-1")
+            .eventType("INCIDENT_ASSIGNED")
+            .payload(IncidentEvent.IncidentEventPayload.builder()
+                    .incidentId(1L)
+                    .status(IncidentStatus.IN_PROGRESS)
+                    .priority(IncidentPriority.HIGH)
+                    .assignedTo("oncall")
+                    .build())
+            .build();
+
+    @Test
+    void matches_EmptyFilter_MatchesEveryEvent() {
+        // Arrange
+        IncidentStreamFilter unset = new IncidentStreamFilter();
+        IncidentStreamFilter empty = IncidentStreamFilter.builder()
+                .priorities(Set.of())
+                .statuses(Set.of())
+                .assignedTo(" ")
+                .build();
+
+        // Act & Assert
+        assertTrue(unset.matches(event));
+        assertTrue(empty.matches(event));
+    }
+
+    @Test
+    void matches_AllFieldsMatch_ReturnsTrue() {
+        // Arrange
+        IncidentStreamFilter filter = IncidentStreamFilter.builder()
+                .priorities(Set.of(IncidentPriority.CRITICAL, IncidentPriority.HIGH))
+                .statuses(Set.of(IncidentStatus.IN_PROGRESS))
+                .assignedTo("oncall")
+                .build();
+
+        // Act & Assert
+        assertTrue(filter.matches(event));
+    }
+
+    @Test
+    void matches_AnyFieldDiffers_ReturnsFalse() {
+        // Arrange
+        IncidentStreamFilter otherPriority = IncidentStreamFilter.builder()
+                .priorities(Set.of(IncidentPriority.CRITICAL))
+                .build();
+        IncidentStreamFilter otherStatus = IncidentStreamFilter.builder()
+                .statuses(Set.of(IncidentStatus.OPEN, IncidentStatus.RESOLVED))
+                .build();
+        IncidentStreamFilter otherAssignee = IncidentStreamFilter.builder()
+                .priorities(Set.of(IncidentPriority.HIGH))
+                .assignedTo("someone.else")
+                .build();
+
+        // Act & Assert
+        assertFalse(otherPriority.matches(event));
+        assertFalse(otherStatus.matches(event));
+        assertFalse(otherAssignee.matches(event));
+    }
+
+    @Test
+    void matches_EventWithoutPayload_ReturnsFalse() {
+        // Arrange
+        IncidentEvent noPayload = IncidentEvent.builder().eventId("event-2").eventType("INCIDENT_DELETED").build();
+
+        // Act & Assert
+        assertFalse(new IncidentStreamFilter().matches(noPayload));
+    }
+}
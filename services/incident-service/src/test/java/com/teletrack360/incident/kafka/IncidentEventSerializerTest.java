@@ -0,0 +1,109 @@
+package com.teletrack360.incident.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.common.kafka.IncidentEventDeserializer;
+import com.teletrack360.common.kafka.IncidentEventSchemas;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncidentEventSerializerTest {
+    
+    private final IncidentEventSerializer serializer = new IncidentEventSerializer();
+    private final IncidentEventDeserializer deserializer = new IncidentEventDeserializer();
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+    
+    @Test
+    void serialize_WritesTaggedAvroReadBackAsEvent() throws Exception {
+        // Arrange
+        IncidentEvent event = event();
+        RecordHeaders headers = new RecordHeaders();
+        serializer.configure(Map.of(), false);
+        
+        // Act
+        byte[] avro = serializer.serialize("incident-assigned", headers, event);
+        IncidentEvent read = deserializer.deserialize("incident-assigned", headers, avro);
+        
+        // Assert
+        assertEquals(IncidentEventSchemas.CURRENT_ID, new String(
+                headers.lastHeader(IncidentEventSchemas.SCHEMA_HEADER).value(), StandardCharsets.UTF_8));
+        assertTrue(avro.length < objectMapper.writeValueAsBytes(event).length / 2);
+        assertEquals(event, read);
+    }
+    
+    @Test
+    void serialize_JsonEncodingWritesUntaggedJson() throws Exception {
+        // Arrange
+        IncidentEvent event = event();
+        RecordHeaders headers = new RecordHeaders();
+        serializer.configure(Map.of(IncidentEventSerializer.ENCODING_CONFIG, "json"), false);
+        
+        // Act
+        byte[] json = serializer.serialize("incident-assigned", headers, event);
+        IncidentEvent read = deserializer.deserialize("incident-assigned", headers, json);
+        
+        // Assert
+        assertNull(headers.lastHeader(IncidentEventSchemas.SCHEMA_HEADER));
+        assertArrayEquals(objectMapper.writeValueAsBytes(event), json);
+        assertEquals(event, read);
+    }
+    
+    @Test
+    void deserialize_SkipsUnwantedTypesByHeader() {
+        // Arrange
+        RecordHeaders headers = new RecordHeaders();
+        serializer.configure(Map.of(), false);
+        byte[] avro = serializer.serialize("incident-events", headers, event());
+        IncidentEventDeserializer filtering = new IncidentEventDeserializer();
+        filtering.configure(Map.of(IncidentEventDeserializer.TYPES_CONFIG, "INCIDENT_CREATED, INCIDENT_RESOLVED"), false);
+        
+        // Act
+        IncidentEvent skipped = filtering.deserialize("incident-events", headers, avro);
+        
+        // Assert
+        assertEquals("INCIDENT_ASSIGNED", new String(
+                headers.lastHeader(IncidentEventDeserializer.EVENT_TYPE_HEADER).value(), StandardCharsets.UTF_8));
+        assertNull(skipped);
+    }
+    
+    @Test
+    void deserialize_UnknownEnumSymbolInJson_ReadsAsNull() {
+        // Arrange: written by a producer that knows a status this build does not
+        byte[] json = ("{\"eventId\":\"event-1\",\"eventType\":\"INCIDENT_STATUS_CHANGED\","
+                + "\"timestamp\":\"2024-01-15T09:42:07\",\"payload\":{\"incidentId\":42,"
+                + "\"status\":\"ON_HOLD\",\"priority\":\"HIGH\",\"severity\":2}}").getBytes(StandardCharsets.UTF_8);
+        
+        // Act
+        IncidentEvent read = deserializer.deserialize("incident-events", new RecordHeaders(), json);
+        
+        // Assert
+        assertEquals(LocalDateTime.of(2024, 1, 15, 9, 42, 7), read.getTimestamp());
+        assertEquals(42L, read.getPayload().getIncidentId());
+        assertNull(read.getPayload().getStatus());
+        assertEquals(IncidentPriority.HIGH, read.getPayload().getPriority());
+    }
+    
+    private IncidentEvent event() {
+        return IncidentEvent.builder()
+                .eventId("6f1c8a52-3d0e-4a8b-9c61-2f7e5d4b3a10")
+                .eventType("INCIDENT_ASSIGNED")
+                .timestamp(LocalDateTime.of(2024, 1, 15, 9, 42, 7, 123_456_000))
+                .payload(IncidentEvent.IncidentEventPayload.builder()
+                        .incidentId(42L)
+                        .title("Core router packet loss in region EU-West")
+                        .status(IncidentStatus.IN_PROGRESS)
+                        .priority(IncidentPriority.HIGH)
+                        .assignedTo("network.engineer")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.teletrack360.incident.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.incident.entity.OutboxEvent;
+import com.teletrack360.incident.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.NotLeaderOrFollowerException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentOutboxRelayTest {
+    
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Mock
+    private KafkaTemplate<String, IncidentEvent> kafkaTemplate;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private IncidentOutboxRelay relay;
+    
+    @BeforeEach
+    void setUp() {
+        relay = new IncidentOutboxRelay(outboxEventRepository, kafkaTemplate, objectMapper,
+                transactionTemplate, meterRegistry, 500, 1000L, 3, true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+    
+    @Test
+    void relay_DeletesOnlyAcknowledgedEvents() throws Exception {
+        // Arrange
+        OutboxEvent first = outboxEvent(1L, "incident-1");
+        OutboxEvent second = outboxEvent(2L, "incident-2");
+        givenBatch(first, second);
+        when(kafkaTemplate.send(eq("incident-created"), eq("incident-1"), argThat(eventId("event-1"))))
+                .thenReturn(acknowledged());
+        when(kafkaTemplate.send(eq("incident-created"), eq("incident-2"), argThat(eventId("event-2"))))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L));
+        assertEquals(1.0, meterRegistry.counter("incident.outbox.relayed").count());
+        assertEquals(1.0, meterRegistry.counter("incident.outbox.failed").count());
+        assertEquals(1, second.getAttempts());
+    }
+    
+    @Test
+    void relay_SameKey_SendsNextEventOnlyAfterAcknowledgement() throws Exception {
+        // Arrange
+        OutboxEvent created = outboxEvent(1L, "incident-1");
+        OutboxEvent assigned = outboxEvent(2L, "incident-1");
+        OutboxEvent other = outboxEvent(3L, "incident-2");
+        givenBatch(created, assigned, other);
+        when(kafkaTemplate.send(eq("incident-created"), any(), any())).thenReturn(acknowledged());
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        InOrder inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send(eq("incident-created"), eq("incident-1"), argThat(eventId("event-1")));
+        inOrder.verify(kafkaTemplate).flush();
+        inOrder.verify(kafkaTemplate).send(eq("incident-created"), eq("incident-1"), argThat(eventId("event-2")));
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L, 3L, 2L));
+    }
+    
+    @Test
+    void relay_FailedEvent_HoldsBackLaterEventsOfItsKeyOnly() throws Exception {
+        // Arrange
+        OutboxEvent failing = outboxEvent(1L, "incident-1");
+        OutboxEvent other = outboxEvent(2L, "incident-2");
+        OutboxEvent heldBack = outboxEvent(3L, "incident-1");
+        givenBatch(failing, other, heldBack);
+        when(kafkaTemplate.send(eq("incident-created"), eq("incident-1"), argThat(eventId("event-1"))))
+                .thenReturn(CompletableFuture.failedFuture(new NotLeaderOrFollowerException("leader moved")));
+        when(kafkaTemplate.send(eq("incident-created"), eq("incident-2"), argThat(eventId("event-2"))))
+                .thenReturn(acknowledged());
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        verify(kafkaTemplate, never()).send(any(), any(), argThat(eventId("event-3")));
+        verify(outboxEventRepository).deleteByIdIn(List.of(2L));
+        assertEquals(2.0, meterRegistry.counter("incident.outbox.failed").count());
+        // Transient broker errors do not count against the event
+        assertEquals(0, failing.getAttempts());
+    }
+    
+    @Test
+    void relay_DeadLettersEventAfterMaxAttempts() throws Exception {
+        // Arrange
+        OutboxEvent poison = outboxEvent(1L, "incident-1");
+        poison.setAttempts(2);
+        givenBatch(poison);
+        when(kafkaTemplate.send(eq("incident-created"), eq("incident-1"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        assertEquals(3, poison.getAttempts());
+        assertNotNull(poison.getDeadLetteredAt());
+        assertEquals(1.0, meterRegistry.counter("incident.outbox.dead-lettered").count());
+    }
+    
+    @Test
+    void relay_EmptyOutbox_SendsNothing() {
+        // Arrange
+        givenBatch();
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        verifyNoInteractions(kafkaTemplate);
+        verify(outboxEventRepository, never()).deleteByIdIn(any());
+    }
+    
+    @Test
+    void relay_AnotherInstanceRelaying_SkipsPoll() {
+        // Arrange
+        when(outboxEventRepository.tryRelayLock(IncidentOutboxRelay.RELAY_LOCK_ID)).thenReturn(false);
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        verify(outboxEventRepository, never()).lockNextBatch(anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+    
+    private void givenBatch(OutboxEvent... rows) {
+        when(outboxEventRepository.tryRelayLock(IncidentOutboxRelay.RELAY_LOCK_ID)).thenReturn(true);
+        when(outboxEventRepository.lockNextBatch(500)).thenReturn(List.of(rows));
+    }
+    
+    private static ArgumentMatcher<IncidentEvent> eventId(String eventId) {
+        return event -> event != null && eventId.equals(event.getEventId());
+    }
+    
+    private static CompletableFuture<SendResult<String, IncidentEvent>> acknowledged() {
+        return CompletableFuture.completedFuture(new SendResult<>(null, null));
+    }
+    
+    private OutboxEvent outboxEvent(Long id, String eventKey) throws Exception {
+        IncidentEvent event = IncidentEvent.builder()
+                .eventId("event-" + id)
+                .eventType("INCIDENT_CREATED")
+                .timestamp(LocalDateTime.now())
+                .payload(IncidentEvent.IncidentEventPayload.builder().incidentId(id).build())
+                .build();
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("incident-created")
+                .eventKey(eventKey)
+                .eventType("INCIDENT_CREATED")
+                .payload(objectMapper.writeValueAsString(event))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
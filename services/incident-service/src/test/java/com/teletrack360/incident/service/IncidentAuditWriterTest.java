@@ -0,0 +1,85 @@
+package com.teletrack360.incident.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.incident.entity.IncidentAudit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentAuditWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IncidentAuditWriter auditWriter;
+
+    @BeforeEach
+    void setUp() {
+        auditWriter = new IncidentAuditWriter(jdbcTemplate, new ObjectMapper(), transactionManager,
+                new SimpleMeterRegistry(), 10, 200, 200, 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void record_WhenWriterNotRunning_WritesOnlyChangedFieldsInNewTransaction() {
+        // Arrange
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        Map<String, Object> before = new LinkedHashMap<>();
+        before.put("title", "Server Down");
+        before.put("status", IncidentStatus.OPEN);
+        Map<String, Object> after = new LinkedHashMap<>(before);
+        after.put("status", IncidentStatus.RESOLVED);
+
+        // Act
+        auditWriter.record(1L, "STATUS_CHANGED", "testuser", before, after);
+
+        // Assert
+        ArgumentCaptor<List<IncidentAudit>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        IncidentAudit audit = batch.getValue().get(0);
+        assertEquals("{\"status\":\"OPEN\"}", audit.getOldValue());
+        assertEquals("{\"status\":\"RESOLVED\"}", audit.getNewValue());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void record_WhileRunning_IsWrittenByBatchWriter() {
+        // Arrange
+        auditWriter.start();
+
+        // Act
+        auditWriter.record(1L, "CREATED", "testuser", null, Map.of("title", "Server Down"));
+        auditWriter.record(2L, "CREATED", "testuser", null, Map.of("title", "Link Flapping"));
+        auditWriter.stop();
+
+        // Assert
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), any(List.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verifyNoInteractions(transactionManager);
+    }
+}
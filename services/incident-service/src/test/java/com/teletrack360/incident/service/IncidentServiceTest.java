@@ -2,19 +2,47 @@ package com.teletrack360.incident.service;
 
 import com.teletrack360.common.enums.IncidentPriority;
 import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.exception.ConflictException;
+import com.teletrack360.common.exception.PreconditionFailedException;
+import com.teletrack360.common.exception.ValidationException;
+import com.teletrack360.incident.dto.BulkOperationResponse;
 import com.teletrack360.incident.dto.CreateIncidentRequest;
+import com.teletrack360.incident.dto.IncidentCursor;
+import com.teletrack360.incident.dto.IncidentFacets;
 import com.teletrack360.incident.dto.IncidentResponse;
+import com.teletrack360.incident.dto.IncidentSearchCriteria;
+import com.teletrack360.incident.dto.IncidentSearchResponse;
+import com.teletrack360.incident.dto.IncidentSummary;
+import com.teletrack360.incident.dto.UpdateIncidentRequest;
 import com.teletrack360.incident.entity.Incident;
 import com.teletrack360.incident.kafka.IncidentEventProducer;
+import com.teletrack360.incident.repository.IncidentAuditRepository;
 import com.teletrack360.incident.repository.IncidentRepository;
+import com.teletrack360.incident.repository.IncidentSearchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,9 +55,22 @@ class IncidentServiceTest {
     @Mock
     private IncidentRepository incidentRepository;
     
+    @Mock
+    private IncidentSearchRepository searchRepository;
+    
     @Mock
     private IncidentEventProducer eventProducer;
     
+    @Mock
+    private IncidentAuditWriter auditWriter;
+    
+    @Mock
+    private IncidentAuditRepository auditRepository;
+    
+    @Spy
+    private IncidentResponseCache responseCache =
+            new IncidentResponseCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+    
     @InjectMocks
     private IncidentService incidentService;
     
@@ -77,15 +118,257 @@ class IncidentServiceTest {
     @Test
     void updateStatus_ToResolved_SetsResolvedAt() {
         // Arrange
-        when(incidentRepository.findByIdAndNotDeleted(1L)).thenReturn(java.util.Optional.of(incident));
-        when(incidentRepository.save(any(Incident.class))).thenReturn(incident);
+        when(incidentRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(incident));
+        when(incidentRepository.saveAndFlush(any(Incident.class))).thenReturn(incident);
         doNothing().when(eventProducer).sendEvent(anyString(), any());
         
         // Act
-        IncidentResponse response = incidentService.updateStatus(1L, IncidentStatus.RESOLVED, "testuser");
+        IncidentResponse response = incidentService.updateStatus(1L, IncidentStatus.RESOLVED, null, "testuser");
         
         // Assert
         assertNotNull(response);
         verify(eventProducer).sendEvent(eq("incident-resolved"), any());
+        verify(auditWriter).record(eq(1L), eq("STATUS_CHANGED"), eq("testuser"),
+                argThat(before -> before.get("status") == IncidentStatus.OPEN),
+                argThat(after -> after.get("status") == IncidentStatus.RESOLVED));
+    }
+    
+    @Test
+    void getIncidentById_ServesRepeatReadsFromCacheUntilAssigned() {
+        // Arrange
+        when(incidentRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(incident));
+        when(incidentRepository.saveAndFlush(any(Incident.class))).thenReturn(incident);
+        
+        // Act
+        incidentService.getIncidentById(1L);
+        incidentService.getIncidentById(1L);
+        incidentService.assignIncident(1L, "operator", null, "testuser");
+        IncidentResponse afterAssign = incidentService.getIncidentById(1L);
+        
+        // Assert
+        assertEquals("operator", afterAssign.getAssignedTo());
+        // two reads share one load, assign loads once, the read after it reloads
+        verify(incidentRepository, times(3)).findByIdAndNotDeleted(1L);
+        verify(responseCache).evict(1L);
+    }
+    
+    @Test
+    void updateIncident_StaleIfMatchVersion_FailsWithoutWriting() {
+        // Arrange
+        incident.setVersion(3L);
+        when(incidentRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(incident));
+        
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> incidentService.updateIncident(
+                1L, UpdateIncidentRequest.builder().title("Renamed").build(), Set.of(2L), "testuser"));
+        verify(incidentRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(eventProducer);
+    }
+    
+    @Test
+    void claimIncident_AlreadyClaimed_ReportsConflictWithoutEvent() {
+        // Arrange
+        when(incidentRepository.assignIfUnassigned(eq(1L), eq(IncidentStatus.OPEN), eq(IncidentStatus.IN_PROGRESS),
+                eq("operator"), eq("testuser"), any())).thenReturn(0);
+        when(incidentRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(incident));
+        
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> incidentService.claimIncident(1L, "operator", "testuser"));
+        verifyNoInteractions(eventProducer, auditWriter);
+    }
+    
+    @Test
+    void getIncidentSummaries_ReturnsOnlyRequestedFieldsFromProjection() {
+        // Arrange
+        IncidentSummary summary = new IncidentSummary(1L, "Server Down", IncidentStatus.OPEN, IncidentPriority.HIGH,
+                null, "testuser", incident.getCreatedAt(), null, null, null, 0L);
+        when(incidentRepository.findAllActiveSummaries(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(summary)));
+        
+        // Act
+        Page<IncidentSummary> page = incidentService.getIncidentSummaries(
+                PageRequest.of(0, 20), Set.of("status", "title"));
+        
+        // Assert
+        Map<String, Object> selected = page.getContent().get(0).select(Set.of("status", "title"));
+        assertEquals(List.of("id", "title", "status"), List.copyOf(selected.keySet()));
+        verify(incidentRepository, never()).findAllActive(any());
+    }
+    
+    @Test
+    void getIncidentSummaries_DescriptionRequested_IsRejected() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> incidentService.getIncidentSummaries(
+                PageRequest.of(0, 20), Set.of("title", "description")));
+        verifyNoInteractions(incidentRepository);
+    }
+    
+    @Test
+    void getIncidentsAfter_WithCursor_SeeksPastCursorWithoutCount() {
+        // Arrange
+        IncidentCursor cursor = IncidentCursor.decode(IncidentCursor.of(
+                IncidentResponse.builder().id(5L).createdAt(incident.getCreatedAt()).build()).encode());
+        when(incidentRepository.findActiveOlderThan(eq(incident.getCreatedAt()), eq(5L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(incident)));
+        
+        // Act
+        Slice<IncidentResponse> slice = incidentService.getIncidentsAfter(cursor, 20, Sort.Direction.DESC);
+        
+        // Assert
+        assertEquals(1, slice.getNumberOfElements());
+        assertEquals(1L, slice.getContent().get(0).getId());
+        verify(incidentRepository, never()).findAllActive(any());
+    }
+    
+    @Test
+    void getIncidentsAfter_OversizedPage_IsCapped() {
+        // Arrange
+        when(incidentRepository.findActiveNewestFirst(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of()));
+        
+        // Act
+        incidentService.getIncidentsAfter(null, 1_000_000, Sort.Direction.DESC);
+        
+        // Assert
+        verify(incidentRepository).findActiveNewestFirst(argThat(pageable -> pageable.getPageSize() == 100));
+    }
+    
+    @Test
+    void getIncidentsAfter_SizeBelowOne_IsRejected() {
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> incidentService.getIncidentsAfter(null, 0, Sort.Direction.DESC));
+        verifyNoInteractions(incidentRepository);
+    }
+    
+    @Test
+    void bulkAssign_MixedIds_ReportsPerItemAndStagesEventsOnce() {
+        // Arrange
+        Incident second = Incident.builder()
+                .id(2L)
+                .title("Link Flapping")
+                .status(IncidentStatus.IN_PROGRESS)
+                .priority(IncidentPriority.MEDIUM)
+                .deleted(false)
+                .build();
+        when(incidentRepository.findAllActiveByIdIn(List.of(1L, 99L, 2L))).thenReturn(List.of(second, incident));
+        
+        // Act
+        BulkOperationResponse response = incidentService.bulkAssign(List.of(1L, 99L, 2L, 1L), "oncall", "testuser");
+        
+        // Assert
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getSucceeded());
+        assertEquals(List.of(1L, 99L, 2L), response.getResults().stream().map(r -> r.getId()).toList());
+        assertEquals("RESOURCE_NOT_FOUND", response.getResults().get(1).getErrorCode());
+        assertEquals(IncidentStatus.IN_PROGRESS, incident.getStatus());
+        assertEquals("oncall", second.getAssignedTo());
+        verify(incidentRepository).saveAllAndFlush(any());
+        verify(eventProducer).sendEvents(eq("incident-assigned"), argThat(events -> events.size() == 2));
+        verify(incidentRepository, never()).findByIdAndNotDeleted(any());
+    }
+    
+    @Test
+    void bulkDelete_StagesEventsInRequestedOrder() {
+        // Arrange
+        Incident second = Incident.builder()
+                .id(2L)
+                .title("Link Flapping")
+                .status(IncidentStatus.OPEN)
+                .priority(IncidentPriority.MEDIUM)
+                .deleted(false)
+                .build();
+        when(incidentRepository.findAllActiveByIdIn(List.of(2L, 1L))).thenReturn(List.of(incident, second));
+        
+        // Act
+        incidentService.bulkDelete(List.of(2L, 1L), "testuser");
+        
+        // Assert
+        InOrder auditOrder = inOrder(auditWriter);
+        auditOrder.verify(auditWriter).record(eq(2L), eq("DELETED"), eq("testuser"), any(), any());
+        auditOrder.verify(auditWriter).record(eq(1L), eq("DELETED"), eq("testuser"), any(), any());
+        verify(incidentRepository).saveAllAndFlush(argThat(saved ->
+                List.of(2L, 1L).equals(StreamSupport.stream(saved.spliterator(), false).map(Incident::getId).toList())));
+        verify(eventProducer).sendEvents(eq("incident-updated"), argThat(events ->
+                List.of(2L, 1L).equals(events.stream().map(e -> e.getPayload().getIncidentId()).toList())));
+    }
+    
+    @Test
+    void bulkCreateIncidents_StagesAllCreatedEventsInOneBatch() {
+        // Arrange
+        when(incidentRepository.saveAllAndFlush(anyList())).thenReturn(List.of(incident, incident));
+        
+        // Act
+        BulkOperationResponse response = incidentService.bulkCreateIncidents(List.of(createRequest, createRequest), "testuser");
+        
+        // Assert
+        assertEquals(2, response.getSucceeded());
+        assertEquals(0, response.getFailed());
+        verify(eventProducer).sendEvents(eq("incident-created"), argThat(events -> events.size() == 2));
+        verify(eventProducer, never()).sendEvent(anyString(), any());
+    }
+    
+    @Test
+    void searchIncidents_ReturnsHitsInRankOrderWithFacets() {
+        // Arrange
+        IncidentSearchCriteria criteria = IncidentSearchCriteria.builder().query("server down").build();
+        Incident other = Incident.builder()
+                .id(2L)
+                .title("Server Down Again")
+                .status(IncidentStatus.RESOLVED)
+                .priority(IncidentPriority.CRITICAL)
+                .createdBy("testuser")
+                .createdAt(LocalDateTime.now())
+                .deleted(false)
+                .build();
+        IncidentFacets facets = new IncidentFacets();
+        facets.add(IncidentStatus.OPEN, IncidentPriority.HIGH, 1);
+        facets.add(IncidentStatus.RESOLVED, IncidentPriority.CRITICAL, 1);
+        when(searchRepository.countFacets(criteria)).thenReturn(facets);
+        when(searchRepository.findIds(criteria, 0L, 20)).thenReturn(List.of(2L, 1L));
+        when(incidentRepository.findAllActiveByIdIn(List.of(2L, 1L))).thenReturn(List.of(incident, other));
+        
+        // Act
+        IncidentSearchResponse response = incidentService.searchIncidents(criteria, 0, 20, true);
+        
+        // Assert
+        assertEquals(List.of(2L, 1L), response.getResults().getContent().stream().map(IncidentResponse::getId).toList());
+        assertEquals(2, response.getResults().getTotalElements());
+        assertEquals(1L, response.getStatusCounts().get(IncidentStatus.OPEN));
+        assertEquals(0L, response.getStatusCounts().get(IncidentStatus.CLOSED));
+        assertEquals(1L, response.getPriorityCounts().get(IncidentPriority.CRITICAL));
+    }
+    
+    @Test
+    void searchIncidents_NoMatches_SkipsRowLookup() {
+        // Arrange
+        IncidentSearchCriteria criteria = IncidentSearchCriteria.builder().query("nothing").build();
+        when(searchRepository.countFacets(criteria)).thenReturn(new IncidentFacets());
+        
+        // Act
+        IncidentSearchResponse response = incidentService.searchIncidents(criteria, 0, 20, true);
+        
+        // Assert
+        assertTrue(response.getResults().getContent().isEmpty());
+        verify(searchRepository, never()).findIds(any(), anyLong(), anyInt());
+        verifyNoInteractions(incidentRepository);
+    }
+    
+    @Test
+    void searchIncidents_WithoutFacets_CountsMatchesOnly() {
+        // Arrange
+        IncidentSearchCriteria criteria = IncidentSearchCriteria.builder().query("server down").build();
+        when(searchRepository.countMatches(criteria)).thenReturn(21L);
+        when(searchRepository.findIds(criteria, 20L, 20)).thenReturn(List.of(1L));
+        when(incidentRepository.findAllActiveByIdIn(List.of(1L))).thenReturn(List.of(incident));
+        
+        // Act
+        IncidentSearchResponse response = incidentService.searchIncidents(criteria, 1, 20, false);
+        
+        // Assert
+        assertEquals(21, response.getResults().getTotalElements());
+        assertEquals(1, response.getResults().getContent().size());
+        assertNull(response.getStatusCounts());
+        assertNull(response.getPriorityCounts());
+        verify(searchRepository, never()).countFacets(any());
     }
 }
@@ -0,0 +1,254 @@
+package com.teletrack360.incident.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.incident.dto.IncidentStreamFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncidentStreamBroadcasterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private final Semaphore sends = new Semaphore(0);
+    private final Deque<RecordingEmitter> nextEmitters = new ArrayDeque<>();
+    private final List<RecordingEmitter> emitters = Collections.synchronizedList(new ArrayList<>());
+
+    private SimpleMeterRegistry meterRegistry;
+    private IncidentStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+    }
+
+    @Test
+    void subscribe_ConcurrentSubscribers_NeverExceedMaximum() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(5, 16, 64, 10_000);
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SseEmitter>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 16; i++) {
+            results.add(clients.submit(() -> {
+                start.await();
+                return broadcaster.subscribe(new IncidentStreamFilter());
+            }));
+        }
+        start.countDown();
+        int opened = 0;
+        for (Future<SseEmitter> result : results) {
+            if (result.get(5, TimeUnit.SECONDS) != null) {
+                opened++;
+            }
+        }
+        clients.shutdown();
+
+        // Assert
+        assertEquals(5, opened);
+        assertEquals(5, subscribers());
+    }
+
+    @Test
+    void broadcast_QueuesEventOnlyToMatchingSubscribers() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(10, 16, 64, 10_000);
+        nextEmitters.add(new RecordingEmitter("high", false));
+        nextEmitters.add(new RecordingEmitter("critical", false));
+        broadcaster.subscribe(IncidentStreamFilter.builder().priorities(Set.of(IncidentPriority.HIGH)).build());
+        broadcaster.subscribe(IncidentStreamFilter.builder().priorities(Set.of(IncidentPriority.CRITICAL)).build());
+
+        // Act
+        broadcaster.broadcast(event("event-1", "anyone", IncidentPriority.HIGH));
+
+        // Assert
+        assertTrue(sends.tryAcquire(3, 5, TimeUnit.SECONDS));
+        assertFalse(sends.tryAcquire(1, 100, TimeUnit.MILLISECONDS));
+        assertTrue(sent.contains("high:event-1"));
+        assertFalse(sent.contains("critical:event-1"));
+    }
+
+    @Test
+    void drain_BusySubscriber_YieldsSenderAfterEachBatch() throws Exception {
+        // Arrange: one sender, held by the gate while both queues fill up
+        broadcaster = broadcaster(10, 16, 2, 10_000);
+        RecordingEmitter gate = new RecordingEmitter("gate", true);
+        nextEmitters.add(gate);
+        nextEmitters.add(new RecordingEmitter("a", false));
+        nextEmitters.add(new RecordingEmitter("b", false));
+        broadcaster.subscribe(IncidentStreamFilter.builder().assignedTo("gate").build());
+        assertTrue(gate.started.await(5, TimeUnit.SECONDS));
+        broadcaster.subscribe(IncidentStreamFilter.builder().assignedTo("a").build());
+        broadcaster.subscribe(IncidentStreamFilter.builder().assignedTo("b").build());
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.broadcast(event("a-" + i, "a", IncidentPriority.LOW));
+        }
+        broadcaster.broadcast(event("b-1", "b", IncidentPriority.LOW));
+
+        // Act
+        gate.release.countDown();
+
+        // Assert
+        assertTrue(sends.tryAcquire(9, 5, TimeUnit.SECONDS));
+        List<String> streamed = new ArrayList<>(sent);
+        streamed.remove("gate:heartbeat");
+        assertEquals(List.of(
+                "a:heartbeat", "a:a-1",
+                "b:heartbeat", "b:b-1",
+                "a:a-2", "a:a-3",
+                "a:a-4", "a:a-5"), streamed);
+    }
+
+    @Test
+    void broadcast_LaggingSubscriber_IsEvictedAndCompletedWhileSenderIsBlocked() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(10, 2, 64, 10_000);
+        RecordingEmitter lagging = new RecordingEmitter("lagging", true);
+        nextEmitters.add(lagging);
+        broadcaster.subscribe(new IncidentStreamFilter());
+        assertTrue(lagging.started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        for (int i = 1; i <= 3; i++) {
+            broadcaster.broadcast(event("event-" + i, "anyone", IncidentPriority.LOW));
+        }
+
+        // Assert
+        assertTrue(lagging.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("incident.stream.evicted").counter().count());
+        assertEquals(0, subscribers());
+    }
+
+    @Test
+    void evictStalled_WriteBlockedPastSendTimeout_EvictsOnlyThatSubscriber() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(10, 16, 64, 50);
+        RecordingEmitter stalled = new RecordingEmitter("stalled", true);
+        RecordingEmitter waiting = new RecordingEmitter("waiting", false);
+        nextEmitters.add(stalled);
+        nextEmitters.add(waiting);
+        broadcaster.subscribe(new IncidentStreamFilter());
+        assertTrue(stalled.started.await(5, TimeUnit.SECONDS));
+        broadcaster.subscribe(new IncidentStreamFilter());
+        Thread.sleep(100);
+
+        // Act
+        broadcaster.evictStalled();
+
+        // Assert
+        assertTrue(stalled.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("incident.stream.stalled").counter().count());
+        assertEquals(1, subscribers());
+        assertEquals(1, waiting.completed.getCount());
+    }
+
+    private IncidentStreamBroadcaster broadcaster(int maxSubscribers, int bufferSize, int drainBatchSize,
+                                                  long sendTimeoutMs) {
+        return new IncidentStreamBroadcaster(objectMapper, meterRegistry, maxSubscribers, bufferSize,
+                60_000, 1, drainBatchSize, 10_000, sendTimeoutMs) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                RecordingEmitter emitter;
+                synchronized (nextEmitters) {
+                    emitter = nextEmitters.isEmpty()
+                            ? new RecordingEmitter("subscriber-" + emitters.size(), false)
+                            : nextEmitters.poll();
+                }
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("incident.stream.subscribers").gauge().value();
+    }
+
+    private static IncidentEvent event(String eventId, String assignedTo, IncidentPriority priority) {
+        return IncidentEvent.builder()
+                .eventId(eventId)
+                .eventType("INCIDENT_ASSIGNED")
+                .payload(IncidentEvent.IncidentEventPayload.builder()
+                        .incidentId(1L)
+                        .status(IncidentStatus.IN_PROGRESS)
+                        .priority(priority)
+                        .assignedTo(assignedTo)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Records each event it is sent as "name:eventId"; a blocking one holds the first
+     * write until released, like a client that stopped reading
+     */
+    private final class RecordingEmitter extends SseEmitter {
+
+        private final String name;
+        private final boolean blocking;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private RecordingEmitter(String name, boolean blocking) {
+            super(60_000L);
+            this.name = name;
+            this.blocking = blocking;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            started.countDown();
+            if (blocking) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            String frame = builder.build().iterator().next().getData().toString();
+            sent.add(name + ":" + (frame.startsWith(":heartbeat")
+                    ? "heartbeat"
+                    : frame.substring("id:".length(), frame.indexOf('\n'))));
+            sends.release();
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.teletrack360.notification;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"com.teletrack360.notification", "com.teletrack360.common"})
 @EnableKafka
+@EnableScheduling
 public class NotificationServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,19 @@
+package com.teletrack360.notification.channel;
+
+import com.teletrack360.notification.entity.Notification;
+
+import java.time.Duration;
+
+/**
+ * Delivers notifications of one type (EMAIL, SMS, SLACK). Called from that channel's
+ * worker pool, never from the Kafka listener; a failure is retried later with backoff.
+ */
+public interface NotificationChannel {
+    
+    String getType();
+    
+    /**
+     * Delivers the notification, giving up with an exception once {@code timeout} has passed
+     */
+    void send(Notification notification, Duration timeout) throws Exception;
+}
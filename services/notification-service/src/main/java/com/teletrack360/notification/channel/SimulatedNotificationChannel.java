@@ -0,0 +1,40 @@
+package com.teletrack360.notification.channel;
+
+import com.teletrack360.notification.entity.Notification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Stand-in for a real SMTP, SMS or Slack client: logs the notification after an optional
+ * delay, so slow providers can be reproduced locally
+ */
+@Slf4j
+public class SimulatedNotificationChannel implements NotificationChannel {
+    
+    private final String type;
+    private final long latencyMs;
+    
+    public SimulatedNotificationChannel(String type, long latencyMs) {
+        this.type = type;
+        this.latencyMs = latencyMs;
+    }
+    
+    @Override
+    public String getType() {
+        return type;
+    }
+    
+    @Override
+    public void send(Notification notification, Duration timeout) throws InterruptedException, TimeoutException {
+        if (latencyMs > timeout.toMillis()) {
+            Thread.sleep(timeout.toMillis());
+            throw new TimeoutException(type + " provider did not answer within " + timeout);
+        }
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+        log.debug("{} to {}: {}", type, notification.getRecipient(), notification.getSubject());
+    }
+}
@@ -0,0 +1,26 @@
+package com.teletrack360.notification.config;
+
+import com.teletrack360.notification.channel.NotificationChannel;
+import com.teletrack360.notification.channel.SimulatedNotificationChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NotificationChannelConfig {
+    
+    @Bean
+    public NotificationChannel emailChannel(@Value("${notification.channels.email.simulated-latency-ms:0}") long latencyMs) {
+        return new SimulatedNotificationChannel("EMAIL", latencyMs);
+    }
+    
+    @Bean
+    public NotificationChannel smsChannel(@Value("${notification.channels.sms.simulated-latency-ms:0}") long latencyMs) {
+        return new SimulatedNotificationChannel("SMS", latencyMs);
+    }
+    
+    @Bean
+    public NotificationChannel slackChannel(@Value("${notification.channels.slack.simulated-latency-ms:0}") long latencyMs) {
+        return new SimulatedNotificationChannel("SLACK", latencyMs);
+    }
+}
@@ -1,84 +1,140 @@
 package com.teletrack360.notification.consumer;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.common.kafka.IncidentEventDeserializer;
+import com.teletrack360.notification.dto.NotificationMessage;
 import com.teletrack360.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Batch listener: each poll delivers up to {@code max-poll-records} incident events.
+ *
+ * <p>Events are routed by their {@code event-type} header to the renderer for that type;
+ * types that trigger no notification are dropped by the deserializer before their value
+ * is read ({@code incident.events.types}). Records without the header, from producers
+ * that predate it, are routed by the {@code eventType} field instead.
+ *
+ * <p>Each message carries its event id, so {@code NotificationService} can drop events
+ * that are delivered again after a rebalance or a failed offset commit.
+ *
+ * <p>Events are keyed by incident id. The listener runs {@code notification.consumer.concurrency}
+ * containers that share the topic's partitions, and within a poll the {@link KeyedExecutor}
+ * renders and persists each lane of incidents in its own transaction, so one incident's
+ * events are still handled in the order they were published. The batch is acknowledged
+ * once every lane has been persisted, and its offsets are committed together after the
+ * poll ({@code ack-mode: manual}).
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class IncidentEventConsumer {
-    
+
+    private final Map<String, Function<IncidentEvent, NotificationMessage>> renderers = Map.of(
+            "INCIDENT_CREATED", this::incidentCreated,
+            "INCIDENT_ASSIGNED", this::incidentAssigned,
+            "INCIDENT_RESOLVED", this::incidentResolved
+    );
+
     private final NotificationService notificationService;
-    
-    @KafkaListener(topics = "incident-created", groupId = "notification-service")
-    public void handleIncidentCreated(JsonNode event) {
-        log.info("Received incident-created event: {}", event);
-        
-        try {
-            JsonNode payload = event.get("payload");
-            String title = payload.get("title").asText();
-            String createdBy = payload.get("createdBy").asText();
-            
-            String subject = "New Incident Created: " + title;
-            String body = String.format(
-                    "A new incident has been created.\n\nTitle: %s\nCreated by: %s\nPlease review and take appropriate action.",
-                    title, createdBy
-            );
-            
-            notificationService.sendEmailNotification(createdBy, subject, body);
-            
-        } catch (Exception e) {
-            log.error("Error processing incident-created event", e);
-        }
+    private final KeyedExecutor keyedExecutor;
+
+    @KafkaListener(topics = "#{'${incident.events.topics:incident-events}'.split(',')}",
+            groupId = "notification-service",
+            concurrency = "${notification.consumer.concurrency:3}")
+    public void handleIncidentEvents(List<ConsumerRecord<String, IncidentEvent>> events, Acknowledgment acknowledgment) {
+        log.info("Received {} incident events", events.size());
+
+        keyedExecutor.forEachLane(events, ConsumerRecord::key,
+                lane -> notificationService.sendEmailNotifications(render(lane)));
+        acknowledgment.acknowledge();
     }
-    
-    @KafkaListener(topics = "incident-assigned", groupId = "notification-service")
-    public void handleIncidentAssigned(JsonNode event) {
-        log.info("Received incident-assigned event: {}", event);
-        
-        try {
-            JsonNode payload = event.get("payload");
-            String title = payload.get("title").asText();
-            String assignedTo = payload.get("assignedTo").asText();
-            Long incidentId = payload.get("incidentId").asLong();
-            
-            String subject = "Incident Assigned to You: " + title;
-            String body = String.format(
-                    "Incident #%d has been assigned to you.\n\nTitle: %s\nPlease review and begin work.",
-                    incidentId, title
-            );
-            
-            notificationService.sendEmailNotification(assignedTo, subject, body);
-            
-        } catch (Exception e) {
-            log.error("Error processing incident-assigned event", e);
-        }
+
+    private NotificationMessage incidentCreated(IncidentEvent event) {
+        IncidentEvent.IncidentEventPayload payload = event.getPayload();
+        String title = payload.getTitle();
+        String createdBy = payload.getCreatedBy();
+
+        return NotificationMessage.builder()
+                .recipient(createdBy)
+                .subject("New Incident Created: " + title)
+                .body(String.format(
+                        "A new incident has been created.\n\nTitle: %s\nCreated by: %s\nPlease review and take appropriate action.",
+                        title, createdBy
+                ))
+                .build();
     }
-    
-    @KafkaListener(topics = "incident-resolved", groupId = "notification-service")
-    public void handleIncidentResolved(JsonNode event) {
-        log.info("Received incident-resolved event: {}", event);
-        
-        try {
-            JsonNode payload = event.get("payload");
-            String title = payload.get("title").asText();
-            String createdBy = payload.get("createdBy").asText();
-            Long incidentId = payload.get("incidentId").asLong();
-            
-            String subject = "Incident Resolved: " + title;
-            String body = String.format(
-                    "Incident #%d has been resolved.\n\nTitle: %s\nThank you for your patience.",
-                    incidentId, title
-            );
-            
-            notificationService.sendEmailNotification(createdBy, subject, body);
-            
-        } catch (Exception e) {
-            log.error("Error processing incident-resolved event", e);
+
+    private NotificationMessage incidentAssigned(IncidentEvent event) {
+        IncidentEvent.IncidentEventPayload payload = event.getPayload();
+        String title = payload.getTitle();
+        String assignedTo = payload.getAssignedTo();
+        Long incidentId = payload.getIncidentId();
+
+        return NotificationMessage.builder()
+                .recipient(assignedTo)
+                .subject("Incident Assigned to You: " + title)
+                .body(String.format(
+                        "Incident #%d has been assigned to you.\n\nTitle: %s\nPlease review and begin work.",
+                        incidentId, title
+                ))
+                .build();
+    }
+
+    private NotificationMessage incidentResolved(IncidentEvent event) {
+        IncidentEvent.IncidentEventPayload payload = event.getPayload();
+        String title = payload.getTitle();
+        String createdBy = payload.getCreatedBy();
+        Long incidentId = payload.getIncidentId();
+
+        return NotificationMessage.builder()
+                .recipient(createdBy)
+                .subject("Incident Resolved: " + title)
+                .body(String.format(
+                        "Incident #%d has been resolved.\n\nTitle: %s\nThank you for your patience.",
+                        incidentId, title
+                ))
+                .build();
+    }
+
+    private List<NotificationMessage> render(List<ConsumerRecord<String, IncidentEvent>> events) {
+        List<NotificationMessage> messages = new ArrayList<>(events.size());
+        for (ConsumerRecord<String, IncidentEvent> event : events) {
+            if (event.value() == null) {
+                // Skipped by the deserializer
+                continue;
+            }
+            String eventType = eventType(event);
+            Function<IncidentEvent, NotificationMessage> renderer = renderers.get(eventType);
+            if (renderer == null) {
+                continue;
+            }
+            try {
+                NotificationMessage message = renderer.apply(event.value());
+                message.setEventId(event.value().getEventId());
+                messages.add(message);
+            } catch (Exception e) {
+                log.error("Error processing {} event: {}", eventType, event.value(), e);
+            }
         }
+        return messages;
+    }
+
+    private static String eventType(ConsumerRecord<String, IncidentEvent> event) {
+        Header header = event.headers().lastHeader(IncidentEventDeserializer.EVENT_TYPE_HEADER);
+        return header != null
+                ? new String(header.value(), StandardCharsets.UTF_8)
+                : event.value().getEventType();
     }
 }
@@ -0,0 +1,83 @@
+package com.teletrack360.notification.consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Processes a polled batch on several threads while keeping the order of items that
+ * share a key.
+ *
+ * <p>Items are split into {@code notification.consumer.lanes} lanes by key hash, keeping
+ * their relative order, and each lane is handed to the worker pool as one task. Items with
+ * the same key always fall in the same lane and so run one after another, in poll order;
+ * different keys in one partition run side by side. The caller waits for every lane, so
+ * the next poll of a partition starts only after the previous one has been processed.
+ */
+@Component
+public class KeyedExecutor {
+
+    private final int lanes;
+    private final ExecutorService workers;
+
+    public KeyedExecutor(MeterRegistry meterRegistry,
+                         @Value("${notification.consumer.lanes:8}") int lanes,
+                         @Value("${notification.consumer.workers:8}") int workers) {
+        this.lanes = lanes;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("notification-worker-");
+        threadFactory.setDaemon(true);
+        this.workers = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newFixedThreadPool(workers, threadFactory), "notification.workers");
+    }
+
+    /**
+     * Runs {@code action} once per non-empty lane and returns when all have finished.
+     * A lane that fails does not stop the others; the first failure is rethrown.
+     */
+    public <T> void forEachLane(List<T> items, Function<T, ?> keyOf, Consumer<List<T>> action) {
+        List<List<T>> byLane = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            byLane.add(new ArrayList<>());
+        }
+        for (T item : items) {
+            byLane.get(Math.floorMod(Objects.hashCode(keyOf.apply(item)), lanes)).add(item);
+        }
+        byLane.removeIf(List::isEmpty);
+        if (byLane.size() <= 1) {
+            // Nothing to overlap; skip the hand-off
+            byLane.forEach(action);
+            return;
+        }
+
+        List<CompletableFuture<Void>> pending = new ArrayList<>(byLane.size());
+        for (List<T> lane : byLane) {
+            pending.add(CompletableFuture.runAsync(() -> action.accept(lane), workers));
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
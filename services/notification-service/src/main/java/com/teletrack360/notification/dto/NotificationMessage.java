@@ -0,0 +1,17 @@
+package com.teletrack360.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationMessage {
+    private String eventId; // incident event the message was rendered from, for deduplication
+    private String recipient;
+    private String subject;
+    private String body;
+}
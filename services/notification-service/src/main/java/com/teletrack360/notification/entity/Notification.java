@@ -9,15 +9,19 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_next_attempt", columnList = "status, nextAttemptAt")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Notification {
     
+    // Sequence ids let Hibernate batch inserts; allocationSize must match the sequence increment
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 50)
@@ -35,6 +39,15 @@ public class Notification {
     @Column(nullable = false, length = 20)
     private String status; // PENDING, SENT, FAILED
     
+    // When the retry sweeper may next claim the row; null once sent or out of attempts
+    @Column
+    private LocalDateTime nextAttemptAt;
+    
+    // Bumped by every claim, so only the latest claimant may record the outcome
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private Integer leaseVersion = 0;
+    
     @Column
     private LocalDateTime sentAt;
     
@@ -44,5 +57,6 @@ public class Notification {
     @Column
     private String errorMessage;
     
+    @Builder.Default
     private Integer retryCount = 0;
 }
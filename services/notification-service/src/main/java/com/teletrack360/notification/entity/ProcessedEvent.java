@@ -0,0 +1,42 @@
+package com.teletrack360.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * An incident event that has already produced its notifications
+ */
+@Entity
+@Table(name = "processed_events", indexes = {
+        @Index(name = "idx_processed_events_processed_at", columnList = "processedAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedEvent implements Persistable<String> {
+    
+    @Id
+    @Column(length = 64)
+    private String eventId;
+    
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+    
+    @Override
+    public String getId() {
+        return eventId;
+    }
+    
+    // Ids come from the events and are only ever inserted, so saveAll skips the lookup per row
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -2,7 +2,11 @@ package com.teletrack360.notification.repository;
 
 import com.teletrack360.notification.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,6 +16,46 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     List<Notification> findByStatusAndRetryCountLessThan(String status, Integer maxRetries);
     
+    // SKIP LOCKED lets several sweeper instances claim due rows without blocking each other
+    @Query(value = "SELECT * FROM notifications WHERE status IN ('PENDING', 'FAILED') "
+            + "AND next_attempt_at <= :now AND retry_count < :maxAttempts "
+            + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Notification> lockDueForRetry(@Param("now") LocalDateTime now,
+                                       @Param("maxAttempts") int maxAttempts,
+                                       @Param("limit") int limit);
+    
+    /**
+     * Takes over the lease of a notification about to be sent, if nobody has re-leased it
+     * since {@code leaseVersion}. Returns the rows updated; the new version is one higher.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.leaseVersion = n.leaseVersion + 1, n.nextAttemptAt = :leaseExpiry "
+            + "WHERE n.id = :id AND n.leaseVersion = :leaseVersion AND n.status <> 'SENT'")
+    int claim(@Param("id") Long id,
+              @Param("leaseVersion") int leaseVersion,
+              @Param("leaseExpiry") LocalDateTime leaseExpiry);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'SENT', n.sentAt = :sentAt, n.nextAttemptAt = NULL, "
+            + "n.errorMessage = NULL WHERE n.id = :id AND n.leaseVersion = :leaseVersion")
+    int markSent(@Param("id") Long id,
+                 @Param("leaseVersion") int leaseVersion,
+                 @Param("sentAt") LocalDateTime sentAt);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'FAILED', n.retryCount = :retryCount, "
+            + "n.errorMessage = :errorMessage, n.nextAttemptAt = :nextAttemptAt "
+            + "WHERE n.id = :id AND n.leaseVersion = :leaseVersion")
+    int markFailed(@Param("id") Long id,
+                   @Param("leaseVersion") int leaseVersion,
+                   @Param("retryCount") int retryCount,
+                   @Param("errorMessage") String errorMessage,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+    
     List<Notification> findByRecipient(String recipient);
     
     List<Notification> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
@@ -0,0 +1,135 @@
+package com.teletrack360.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teletrack360.notification.dto.NotificationMessage;
+import com.teletrack360.notification.entity.ProcessedEvent;
+import com.teletrack360.notification.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drops incident events that have already produced their notifications, so a batch
+ * redelivered after a rebalance or a failed commit sends and stores nothing twice.
+ *
+ * <p>Event ids are recorded in {@code processed_events} in the same transaction as the
+ * notifications, so an event has either both or neither. A bounded in-memory set of ids
+ * whose transaction has committed sits in front of the table: a hit there is certain and
+ * costs no query, and the remaining ids of a batch are checked with a single query, which
+ * also catches events another instance processed before the partition moved.
+ */
+@Component
+@Slf4j
+public class EventDeduplicator {
+
+    private static final String CACHE_NAME = "processed-events";
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final Cache<String, Boolean> recentlyProcessed;
+    private final Duration retention;
+    private final Counter duplicateCounter;
+
+    public EventDeduplicator(
+            ProcessedEventRepository processedEventRepository,
+            MeterRegistry meterRegistry,
+            @Value("${notification.idempotency.cache-size:100000}") long cacheSize,
+            @Value("${notification.idempotency.retention:7d}") Duration retention
+    ) {
+        this.processedEventRepository = processedEventRepository;
+        this.retention = retention;
+        this.recentlyProcessed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recentlyProcessed, CACHE_NAME);
+        this.duplicateCounter = Counter.builder("notification.events.duplicates")
+                .description("Redelivered incident events skipped because they were already processed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The messages whose events have not been processed yet, with repeats within the batch
+     * removed. Messages without an event id are always kept. Call it in the transaction that
+     * stores the notifications, followed by {@link #markProcessed}.
+     */
+    public List<NotificationMessage> filterNew(List<NotificationMessage> messages) {
+        Set<String> seen = new HashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (NotificationMessage message : messages) {
+            String eventId = message.getEventId();
+            if (eventId != null && seen.add(eventId) && recentlyProcessed.getIfPresent(eventId) == null) {
+                unknown.add(eventId);
+            }
+        }
+        Set<String> processed = unknown.isEmpty()
+                ? Set.of()
+                : new HashSet<>(processedEventRepository.findProcessedIds(unknown));
+        processed.forEach(eventId -> recentlyProcessed.put(eventId, Boolean.TRUE));
+
+        seen.clear();
+        List<NotificationMessage> fresh = new ArrayList<>(messages.size());
+        for (NotificationMessage message : messages) {
+            String eventId = message.getEventId();
+            if (eventId == null || (seen.add(eventId) && !processed.contains(eventId)
+                    && recentlyProcessed.getIfPresent(eventId) == null)) {
+                fresh.add(message);
+            }
+        }
+        if (fresh.size() < messages.size()) {
+            duplicateCounter.increment(messages.size() - fresh.size());
+            log.debug("Skipped {} already processed incident events", messages.size() - fresh.size());
+        }
+        return fresh;
+    }
+
+    /**
+     * Records the events as processed in the current transaction. They join the in-memory
+     * set only once it commits, so a rolled-back batch is processed again on redelivery.
+     */
+    public void markProcessed(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        processedEventRepository.saveAll(eventIds.stream()
+                .map(eventId -> ProcessedEvent.builder().eventId(eventId).processedAt(now).build())
+                .toList());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventIds.forEach(eventId -> recentlyProcessed.put(eventId, Boolean.TRUE));
+                }
+            });
+        }
+    }
+
+    /**
+     * Forgets events older than {@code notification.idempotency.retention}, which must be at
+     * least the topic's retention so that no event can be redelivered after its id is gone
+     */
+    @Scheduled(fixedDelayString = "${notification.idempotency.purge-interval-ms:3600000}")
+    @Transactional
+    public void purge() {
+        int purged = processedEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} processed event ids older than {}", purged, retention);
+        }
+    }
+}
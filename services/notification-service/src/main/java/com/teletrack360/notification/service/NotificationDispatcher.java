@@ -0,0 +1,277 @@
+package com.teletrack360.notification.service;
+
+import com.teletrack360.notification.channel.NotificationChannel;
+import com.teletrack360.notification.entity.Notification;
+import com.teletrack360.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers stored notifications off the Kafka listener threads.
+ *
+ * <p>Each channel has its own pool of {@code notification.dispatch.threads} workers and a
+ * queue of {@code notification.dispatch.queue-capacity} notifications, so a slow SMS
+ * provider delays SMS only. Handing a notification over never blocks: when a channel's
+ * queue is full the notification stays PENDING and the {@link NotificationRetrySweeper}
+ * picks it up once its lease ({@code notification.dispatch.lease}) has run out.
+ *
+ * <p>A worker first claims the notification, renewing its lease, with a conditional update
+ * on its lease version. A notification that waited in the queue past its lease and was
+ * meanwhile re-leased by the sweeper fails the claim and is skipped, so it is not sent twice.
+ * The outcome is recorded only under the worker's own claim. Channels get at most
+ * {@code notification.dispatch.send-timeout}, which must be shorter than the lease, so a
+ * send finishes before anyone else may claim the notification.
+ *
+ * <p>A failed delivery is retried after a backoff that doubles with every attempt, from
+ * {@code initial-backoff} up to {@code max-backoff}, until {@code max-attempts} attempts
+ * have failed; the notification then stays FAILED with no next attempt.
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final NotificationRepository notificationRepository;
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration sendTimeout;
+    private final Counter unroutableCounter;
+
+    public NotificationDispatcher(
+            NotificationRepository notificationRepository,
+            List<NotificationChannel> channels,
+            MeterRegistry meterRegistry,
+            @Value("${notification.dispatch.threads:4}") int threads,
+            @Value("${notification.dispatch.queue-capacity:1000}") int queueCapacity,
+            @Value("${notification.dispatch.max-attempts:5}") int maxAttempts,
+            @Value("${notification.dispatch.initial-backoff:10s}") Duration initialBackoff,
+            @Value("${notification.dispatch.max-backoff:1h}") Duration maxBackoff,
+            @Value("${notification.dispatch.lease:30s}") Duration lease,
+            @Value("${notification.dispatch.send-timeout:10s}") Duration sendTimeout
+    ) {
+        if (sendTimeout.compareTo(lease) >= 0) {
+            throw new IllegalArgumentException("notification.dispatch.send-timeout (" + sendTimeout
+                    + ") must be shorter than notification.dispatch.lease (" + lease + ")");
+        }
+        this.notificationRepository = notificationRepository;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.sendTimeout = sendTimeout;
+        for (NotificationChannel channel : channels) {
+            lanes.put(channel.getType(), new Lane(channel, meterRegistry, threads, queueCapacity));
+        }
+        this.unroutableCounter = Counter.builder("notification.dispatch.unroutable")
+                .description("Notifications of a type no channel delivers")
+                .register(meterRegistry);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * The time until which a notification being handed to the workers now is left alone
+     * by the sweeper
+     */
+    public LocalDateTime leaseExpiry() {
+        return LocalDateTime.now().plus(lease);
+    }
+
+    /**
+     * Dispatches the notifications once the current transaction commits, or right away
+     * when there is none. Notifications of a rolled-back transaction are never sent.
+     */
+    public void dispatchAfterCommit(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(notifications);
+                }
+            });
+        } else {
+            dispatch(notifications);
+        }
+    }
+
+    /**
+     * Queues the notifications to their channels' workers and returns how many were
+     * accepted. The rest are left to the sweeper.
+     */
+    public int dispatch(List<Notification> notifications) {
+        int accepted = 0;
+        int rejected = 0;
+        for (Notification notification : notifications) {
+            Lane lane = lanes.get(notification.getType());
+            if (lane == null) {
+                unroutableCounter.increment();
+                log.error("No channel delivers {} notification {}", notification.getType(), notification.getId());
+                try {
+                    notificationRepository.markFailed(notification.getId(), notification.getLeaseVersion(),
+                            notification.getRetryCount(), "No channel for type " + notification.getType(), null);
+                } catch (RuntimeException e) {
+                    log.error("Could not mark unroutable notification {} failed", notification.getId(), e);
+                }
+                continue;
+            }
+            try {
+                lane.workers.execute(() -> deliver(lane, notification));
+                accepted++;
+            } catch (RejectedExecutionException e) {
+                lane.rejectedCounter.increment();
+                rejected++;
+            }
+        }
+        if (rejected > 0) {
+            log.warn("Dispatch queues full, {} notifications left for the retry sweeper", rejected);
+        }
+        return accepted;
+    }
+
+    private void deliver(Lane lane, Notification notification) {
+        try {
+            if (notificationRepository.claim(notification.getId(), notification.getLeaseVersion(), leaseExpiry()) == 0) {
+                lane.supersededCounter.increment();
+                log.debug("{} notification {} was re-leased while queued; leaving it to the new claim",
+                        lane.channel.getType(), notification.getId());
+                return;
+            }
+            send(lane, notification, notification.getLeaseVersion() + 1);
+        } catch (RuntimeException e) {
+            // Whatever was left unrecorded is retried once the lease runs out
+            log.error("Could not record the delivery of {} notification {}",
+                    lane.channel.getType(), notification.getId(), e);
+        }
+    }
+
+    private void send(Lane lane, Notification notification, int leaseVersion) {
+        Timer.Sample sample = Timer.start();
+        try {
+            lane.channel.send(notification, sendTimeout);
+        } catch (InterruptedException e) {
+            // Shutting down; the lease runs out and the sweeper tries again
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            sample.stop(lane.sendTimer);
+            failed(lane, notification, leaseVersion, e);
+            return;
+        }
+        sample.stop(lane.sendTimer);
+        lane.sentCounter.increment();
+        if (notificationRepository.markSent(notification.getId(), leaseVersion, LocalDateTime.now()) == 0) {
+            log.warn("{} notification {} was sent after losing its lease and may be sent again",
+                    lane.channel.getType(), notification.getId());
+        }
+    }
+
+    private void failed(Lane lane, Notification notification, int leaseVersion, Exception e) {
+        int attempts = notification.getRetryCount() + 1;
+        LocalDateTime nextAttemptAt = attempts < maxAttempts
+                ? LocalDateTime.now().plus(backoff(attempts))
+                : null;
+        if (nextAttemptAt == null) {
+            lane.exhaustedCounter.increment();
+            log.error("Giving up on {} notification {} to {} after {} attempts",
+                    lane.channel.getType(), notification.getId(), notification.getRecipient(), attempts, e);
+        } else {
+            lane.failedCounter.increment();
+            log.warn("{} notification {} failed (attempt {}), retrying at {}: {}",
+                    lane.channel.getType(), notification.getId(), attempts, nextAttemptAt, e.toString());
+        }
+        notificationRepository.markFailed(notification.getId(), leaseVersion, attempts, truncate(e.toString()),
+                nextAttemptAt);
+    }
+
+    Duration backoff(int attempts) {
+        // Capping the shift keeps the multiplication from overflowing; max-backoff bounds it anyway
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(lane -> lane.workers.shutdown());
+    }
+
+    /**
+     * One channel with its workers and meters
+     */
+    private static final class Lane {
+
+        private final NotificationChannel channel;
+        private final ExecutorService workers;
+        private final Timer sendTimer;
+        private final Counter sentCounter;
+        private final Counter failedCounter;
+        private final Counter exhaustedCounter;
+        private final Counter rejectedCounter;
+        private final Counter supersededCounter;
+
+        private Lane(NotificationChannel channel, MeterRegistry meterRegistry, int threads, int queueCapacity) {
+            this.channel = channel;
+            String type = channel.getType();
+            CustomizableThreadFactory threadFactory =
+                    new CustomizableThreadFactory("notification-" + type.toLowerCase(Locale.ROOT) + "-");
+            threadFactory.setDaemon(true);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+            this.workers = ExecutorServiceMetrics.monitor(meterRegistry, executor,
+                    "notification.dispatch", Tags.of("channel", type));
+            this.sendTimer = Timer.builder("notification.dispatch.send")
+                    .description("Time taken by a channel to deliver one notification")
+                    .tag("channel", type)
+                    .register(meterRegistry);
+            this.sentCounter = result(meterRegistry, type, "sent");
+            this.failedCounter = result(meterRegistry, type, "failed");
+            this.exhaustedCounter = result(meterRegistry, type, "exhausted");
+            this.rejectedCounter = result(meterRegistry, type, "rejected");
+            this.supersededCounter = result(meterRegistry, type, "superseded");
+        }
+
+        private static Counter result(MeterRegistry meterRegistry, String type, String result) {
+            // sent, failed (will be retried), exhausted (last attempt failed), rejected (queue full)
+            // or superseded (re-leased by the sweeper while queued)
+            return Counter.builder("notification.dispatch.results")
+                    .description("Notification deliveries by channel and outcome")
+                    .tag("channel", type)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.teletrack360.notification.service;
+
+import com.teletrack360.notification.entity.Notification;
+import com.teletrack360.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hands notifications that are due for another attempt back to the
+ * {@link NotificationDispatcher}: failed deliveries whose backoff has elapsed, and
+ * PENDING rows whose lease ran out because a channel queue was full or the instance
+ * stopped before they were sent.
+ *
+ * <p>Due rows are claimed in batches of {@code notification.dispatch.sweep-batch-size}
+ * with {@code FOR UPDATE SKIP LOCKED} and leased before the transaction commits, so
+ * several instances can sweep at once without claiming the same row. Each sweep stops at
+ * the first batch that comes back short or that the dispatcher could not fully queue.
+ */
+@Component
+@Slf4j
+public class NotificationRetrySweeper {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public NotificationRetrySweeper(NotificationRepository notificationRepository,
+                                    NotificationDispatcher notificationDispatcher,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${notification.dispatch.sweep-batch-size:100}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.dispatch.sweep-interval-ms:5000}")
+    public void sweep() {
+        List<Notification> claimed;
+        int accepted;
+        do {
+            claimed = transactionTemplate.execute(status -> claimBatch());
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+            accepted = notificationDispatcher.dispatch(claimed);
+            log.debug("Redispatched {}/{} due notifications", accepted, claimed.size());
+            // Stop when the queues are full; the rejected rows come back after their lease
+        } while (claimed.size() == batchSize && accepted == claimed.size());
+    }
+
+    private List<Notification> claimBatch() {
+        List<Notification> due = notificationRepository.lockDueForRetry(
+                LocalDateTime.now(), notificationDispatcher.getMaxAttempts(), batchSize);
+        LocalDateTime leaseExpiry = notificationDispatcher.leaseExpiry();
+        // Flushed on commit, before the locks are released. The new version turns away any
+        // worker still holding this notification from an earlier dispatch
+        due.forEach(notification -> {
+            notification.setNextAttemptAt(leaseExpiry);
+            notification.setLeaseVersion(notification.getLeaseVersion() + 1);
+        });
+        return due;
+    }
+}
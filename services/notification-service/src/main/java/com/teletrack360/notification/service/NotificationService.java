@@ -1,5 +1,6 @@
 package com.teletrack360.notification.service;
 
+import com.teletrack360.notification.dto.NotificationMessage;
 import com.teletrack360.notification.entity.Notification;
 import com.teletrack360.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
@@ -8,72 +9,78 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
+/**
+ * Stores notifications as PENDING and hands them to the {@link NotificationDispatcher}
+ * once the storing transaction commits. Delivery happens on the dispatcher's channel
+ * workers, so a slow provider never holds up the Kafka listener.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
     
     private final NotificationRepository notificationRepository;
+    private final EventDeduplicator eventDeduplicator;
+    private final NotificationDispatcher notificationDispatcher;
     
     @Transactional
     public void sendEmailNotification(String recipient, String subject, String body) {
-        Notification notification = Notification.builder()
-                .type("EMAIL")
-                .recipient(recipient)
-                .subject(subject)
-                .body(body)
-                .status("PENDING")
-                .createdAt(LocalDateTime.now())
-                .build();
+        enqueue(List.of(pending("EMAIL", recipient, subject, body, LocalDateTime.now())));
+        log.info("Queued email notification to {}", recipient);
+    }
+    
+    /**
+     * Stores a batch of emails in one transaction, letting Hibernate flush them as JDBC
+     * batch inserts. Messages rendered from events that were already processed are
+     * skipped, and the rest are recorded as processed in the same transaction.
+     */
+    @Transactional
+    public void sendEmailNotifications(List<NotificationMessage> messages) {
+        messages = eventDeduplicator.filterNew(messages);
+        if (messages.isEmpty()) {
+            return;
+        }
         
-        try {
-            // Simulate email sending
-            log.info("=== EMAIL NOTIFICATION ===");
-            log.info("To: {}", recipient);
-            log.info("Subject: {}", subject);
-            log.info("Body: {}", body);
-            log.info("========================");
-            
-            notification.setStatus("SENT");
-            notification.setSentAt(LocalDateTime.now());
-            
-        } catch (Exception e) {
-            log.error("Failed to send email notification", e);
-            notification.setStatus("FAILED");
-            notification.setErrorMessage(e.getMessage());
-            notification.setRetryCount(notification.getRetryCount() + 1);
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(messages.size());
+        for (NotificationMessage message : messages) {
+            notifications.add(pending("EMAIL", message.getRecipient(), message.getSubject(), message.getBody(), now));
         }
         
-        notificationRepository.save(notification);
+        enqueue(notifications);
+        eventDeduplicator.markProcessed(messages.stream()
+                .map(NotificationMessage::getEventId)
+                .filter(Objects::nonNull)
+                .toList());
+        log.info("Queued {} email notifications", notifications.size());
     }
     
     @Transactional
     public void sendSmsNotification(String recipient, String body) {
-        Notification notification = Notification.builder()
-                .type("SMS")
+        enqueue(List.of(pending("SMS", recipient, null, body, LocalDateTime.now())));
+        log.info("Queued SMS notification to {}", recipient);
+    }
+    
+    private Notification pending(String type, String recipient, String subject, String body, LocalDateTime now) {
+        return Notification.builder()
+                .type(type)
                 .recipient(recipient)
+                .subject(subject)
                 .body(body)
                 .status("PENDING")
-                .createdAt(LocalDateTime.now())
+                .createdAt(now)
                 .build();
-        
-        try {
-            // Simulate SMS sending
-            log.info("=== SMS NOTIFICATION ===");
-            log.info("To: {}", recipient);
-            log.info("Message: {}", body);
-            log.info("=======================");
-            
-            notification.setStatus("SENT");
-            notification.setSentAt(LocalDateTime.now());
-            
-        } catch (Exception e) {
-            log.error("Failed to send SMS notification", e);
-            notification.setStatus("FAILED");
-            notification.setErrorMessage(e.getMessage());
-        }
-        
-        notificationRepository.save(notification);
+    }
+    
+    private void enqueue(List<Notification> notifications) {
+        // Leased up front: should the dispatch never happen, the sweeper sends them once it runs out
+        LocalDateTime leaseExpiry = notificationDispatcher.leaseExpiry();
+        notifications.forEach(notification -> notification.setNextAttemptAt(leaseExpiry));
+        notificationRepository.saveAll(notifications);
+        notificationDispatcher.dispatchAfterCommit(notifications);
     }
 }
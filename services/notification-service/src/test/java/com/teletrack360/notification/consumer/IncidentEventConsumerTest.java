@@ -0,0 +1,114 @@
+package com.teletrack360.notification.consumer;
+
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.common.kafka.IncidentEventDeserializer;
+import com.teletrack360.notification.dto.NotificationMessage;
+import com.teletrack360.notification.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentEventConsumerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private KeyedExecutor keyedExecutor;
+    private IncidentEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        keyedExecutor = new KeyedExecutor(new SimpleMeterRegistry(), 1, 1);
+        consumer = new IncidentEventConsumer(notificationService, keyedExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyedExecutor.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handleIncidentEvents_PersistsBatchInOneCallThenAcknowledges() {
+        // Arrange
+        List<ConsumerRecord<String, IncidentEvent>> events = new ArrayList<>();
+        events.add(record(0, "INCIDENT_CREATED", event("event-1", 1L, "alice", null)));
+        events.add(record(1, "INCIDENT_ASSIGNED", event("event-2", 1L, "alice", "bob")));
+        events.add(record(2, "INCIDENT_UPDATED", event("event-3", 1L, "alice", "bob")));
+        events.add(record(3, "INCIDENT_CLOSED", null));
+        events.add(record(4, "INCIDENT_RESOLVED", event("event-5", 1L, "alice", "bob")));
+
+        // Act
+        consumer.handleIncidentEvents(events, acknowledgment);
+
+        // Assert
+        ArgumentCaptor<List<NotificationMessage>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(notificationService, acknowledgment);
+        inOrder.verify(notificationService).sendEmailNotifications(captor.capture());
+        inOrder.verify(acknowledgment).acknowledge();
+
+        List<NotificationMessage> messages = captor.getValue();
+        assertEquals(List.of("event-1", "event-2", "event-5"),
+                messages.stream().map(NotificationMessage::getEventId).toList());
+        assertEquals(List.of("alice", "bob", "alice"),
+                messages.stream().map(NotificationMessage::getRecipient).toList());
+        assertEquals("Incident Assigned to You: Disk full", messages.get(1).getSubject());
+    }
+
+    @Test
+    void handleIncidentEvents_RendersRecordWithoutHeaderByEventTypeField() {
+        // Arrange
+        IncidentEvent value = event("event-1", 7L, "alice", null);
+        ConsumerRecord<String, IncidentEvent> legacy = new ConsumerRecord<>("incident-created", 0, 0L, "7", value);
+
+        // Act
+        consumer.handleIncidentEvents(List.of(legacy), acknowledgment);
+
+        // Assert
+        verify(notificationService).sendEmailNotifications(argThat(messages ->
+                messages.size() == 1 && messages.get(0).getSubject().equals("New Incident Created: Disk full")));
+        verify(acknowledgment).acknowledge();
+    }
+
+    private static IncidentEvent event(String eventId, Long incidentId, String createdBy, String assignedTo) {
+        return IncidentEvent.builder()
+                .eventId(eventId)
+                .eventType("INCIDENT_CREATED")
+                .payload(IncidentEvent.IncidentEventPayload.builder()
+                        .incidentId(incidentId)
+                        .title("Disk full")
+                        .createdBy(createdBy)
+                        .assignedTo(assignedTo)
+                        .build())
+                .build();
+    }
+
+    private static ConsumerRecord<String, IncidentEvent> record(int offset, String eventType, IncidentEvent value) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(IncidentEventDeserializer.EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>("incident-events", 0, offset, 0L, TimestampType.CREATE_TIME,
+                0, 0, "1", value, headers, Optional.empty());
+    }
+}
@@ -0,0 +1,109 @@
+package com.teletrack360.notification.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedExecutorTest {
+
+    private KeyedExecutor keyedExecutor;
+
+    @BeforeEach
+    void setUp() {
+        keyedExecutor = new KeyedExecutor(new SimpleMeterRegistry(), 4, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyedExecutor.shutdown();
+    }
+
+    @Test
+    void forEachLane_InterleavedKeys_KeepsPollOrderPerKey() {
+        // Arrange: five keys interleaved in poll order, more keys than lanes
+        List<int[]> items = new ArrayList<>();
+        for (int seq = 0; seq < 200; seq++) {
+            items.add(new int[]{seq % 5, seq});
+        }
+        Map<Integer, List<Integer>> seenByKey = new ConcurrentHashMap<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // Act
+        keyedExecutor.forEachLane(items, item -> item[0], lane -> {
+            threads.add(Thread.currentThread().getName());
+            for (int[] item : lane) {
+                seenByKey.computeIfAbsent(item[0], key -> Collections.synchronizedList(new ArrayList<>())).add(item[1]);
+            }
+        });
+
+        // Assert
+        assertEquals(5, seenByKey.size());
+        for (Map.Entry<Integer, List<Integer>> entry : seenByKey.entrySet()) {
+            List<Integer> seen = entry.getValue();
+            assertEquals(40, seen.size());
+            for (int i = 0; i < seen.size(); i++) {
+                assertEquals(entry.getKey() + i * 5, seen.get(i), "key " + entry.getKey() + " out of order");
+            }
+        }
+        assertTrue(threads.size() > 1, "lanes should run on the worker pool");
+    }
+
+    @Test
+    void forEachLane_OneLaneFails_RethrowsAfterOtherLanesFinish() {
+        // Arrange: Integer keys hash to themselves, so keys 0-3 land in lanes 0-3
+        List<Integer> items = List.of(0, 1, 2, 3);
+        IllegalStateException failure = new IllegalStateException("lane 0 failed");
+        Set<Integer> finished = ConcurrentHashMap.newKeySet();
+
+        // Act
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> keyedExecutor.forEachLane(items, Function.identity(), lane -> {
+                    if (lane.get(0) == 0) {
+                        throw failure;
+                    }
+                    sleep(100);
+                    finished.add(lane.get(0));
+                }));
+
+        // Assert
+        assertSame(failure, thrown);
+        assertEquals(Set.of(1, 2, 3), finished);
+    }
+
+    @Test
+    void forEachLane_SingleKey_RunsOnCallingThread() {
+        // Arrange
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        List<String> seen = new ArrayList<>();
+
+        // Act
+        keyedExecutor.forEachLane(List.of("a", "b", "c"), item -> "incident-1", lane -> {
+            ranOn.set(Thread.currentThread());
+            seen.addAll(lane);
+        });
+
+        // Assert
+        assertSame(Thread.currentThread(), ranOn.get());
+        assertEquals(List.of("a", "b", "c"), seen);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
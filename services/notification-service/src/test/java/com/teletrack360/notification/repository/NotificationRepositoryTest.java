@@ -0,0 +1,149 @@
+package com.teletrack360.notification.repository;
+
+import com.teletrack360.notification.entity.Notification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the locking and lease queries against an embedded database. Each step commits on
+ * its own, as the dispatcher's and sweeper's do.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationRepositoryTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+    }
+
+    @Test
+    void lockDueForRetry_RowsLockedByAnotherSweeper_AreSkipped() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Notification first = notificationRepository.save(due(now.minusMinutes(2)));
+        Notification second = notificationRepository.save(due(now.minusMinutes(1)));
+        notificationRepository.save(due(now.plusMinutes(1)));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Notification>> otherSweeper = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<Notification> claimed = notificationRepository.lockDueForRetry(now, 5, 10);
+                    locked.countDown();
+                    await(release);
+                    return claimed;
+                }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        Notification third = notificationRepository.save(due(now.minusMinutes(3)));
+
+        // Act: does not wait for the other sweeper's locks
+        List<Notification> claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> notificationRepository.lockDueForRetry(now, 5, 10));
+        } finally {
+            release.countDown();
+        }
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()), ids(otherSweeper.get(5, TimeUnit.SECONDS)));
+        assertEquals(List.of(third.getId()), ids(claimed));
+    }
+
+    @Test
+    void claim_ReleasedSinceQueued_LosesToNewerClaim() {
+        // Arrange
+        Notification notification = notificationRepository.save(due(LocalDateTime.now()));
+        LocalDateTime leaseExpiry = LocalDateTime.now().plusSeconds(30);
+
+        // Act
+        int firstClaim = notificationRepository.claim(notification.getId(), 0, leaseExpiry);
+        int staleClaim = notificationRepository.claim(notification.getId(), 0, leaseExpiry);
+
+        // Assert
+        assertEquals(1, firstClaim);
+        assertEquals(0, staleClaim);
+        Notification stored = notificationRepository.findById(notification.getId()).orElseThrow();
+        assertEquals(1, stored.getLeaseVersion());
+        assertTrue(stored.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void markSent_OnlyUnderCurrentClaim() {
+        // Arrange
+        Notification notification = notificationRepository.save(due(LocalDateTime.now()));
+        notificationRepository.claim(notification.getId(), 0, LocalDateTime.now().plusSeconds(30));
+
+        // Act
+        int stale = notificationRepository.markSent(notification.getId(), 0, LocalDateTime.now());
+        int current = notificationRepository.markSent(notification.getId(), 1, LocalDateTime.now());
+        int reclaimed = notificationRepository.claim(notification.getId(), 1, LocalDateTime.now().plusSeconds(30));
+
+        // Assert
+        assertEquals(0, stale);
+        assertEquals(1, current);
+        assertEquals(0, reclaimed);
+        Notification stored = notificationRepository.findById(notification.getId()).orElseThrow();
+        assertEquals("SENT", stored.getStatus());
+        assertNull(stored.getNextAttemptAt());
+    }
+
+    @Test
+    void markFailed_StaleClaim_LeavesRowUntouched() {
+        // Arrange
+        Notification notification = notificationRepository.save(due(LocalDateTime.now()));
+        notificationRepository.claim(notification.getId(), 0, LocalDateTime.now().plusSeconds(30));
+
+        // Act
+        int updated = notificationRepository.markFailed(notification.getId(), 0, 1, "timeout", null);
+
+        // Assert
+        assertEquals(0, updated);
+        Notification stored = notificationRepository.findById(notification.getId()).orElseThrow();
+        assertEquals("PENDING", stored.getStatus());
+        assertEquals(0, stored.getRetryCount());
+    }
+
+    private static Notification due(LocalDateTime nextAttemptAt) {
+        return Notification.builder()
+                .type("EMAIL")
+                .recipient("alice")
+                .subject("Incident Assigned")
+                .status("PENDING")
+                .createdAt(LocalDateTime.now())
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+    private static List<Long> ids(List<Notification> notifications) {
+        return notifications.stream().map(Notification::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
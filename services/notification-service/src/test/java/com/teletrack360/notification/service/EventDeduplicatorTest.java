@@ -0,0 +1,156 @@
+package com.teletrack360.notification.service;
+
+import com.teletrack360.notification.dto.NotificationMessage;
+import com.teletrack360.notification.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventDeduplicatorTest {
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new EventDeduplicator(processedEventRepository, meterRegistry, 100, Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void filterNew_RepeatsWithinBatch_KeepsFirstAndQueriesEachIdOnce() {
+        // Arrange
+        when(processedEventRepository.findProcessedIds(List.of("event-1", "event-2"))).thenReturn(List.of());
+
+        // Act
+        List<NotificationMessage> fresh = deduplicator.filterNew(messages("event-1", "event-2", "event-1", null, null));
+
+        // Assert
+        assertEquals(Arrays.asList("event-1", "event-2", null, null), eventIds(fresh));
+        assertEquals(1, meterRegistry.get("notification.events.duplicates").counter().count());
+    }
+
+    @Test
+    void filterNew_ProcessedInDatabase_IsDroppedAndServedFromCacheAfterwards() {
+        // Arrange
+        when(processedEventRepository.findProcessedIds(List.of("event-1", "event-2"))).thenReturn(List.of("event-1"));
+        when(processedEventRepository.findProcessedIds(List.of("event-3"))).thenReturn(List.of());
+
+        // Act
+        List<NotificationMessage> first = deduplicator.filterNew(messages("event-1", "event-2"));
+        List<NotificationMessage> second = deduplicator.filterNew(messages("event-1", "event-3"));
+
+        // Assert
+        assertEquals(List.of("event-2"), eventIds(first));
+        assertEquals(List.of("event-3"), eventIds(second));
+        // The redelivered event-1 was a cache hit and left out of the second query
+        verify(processedEventRepository).findProcessedIds(List.of("event-3"));
+        assertEquals(2, meterRegistry.get("notification.events.duplicates").counter().count());
+    }
+
+    @Test
+    void filterNew_AllIdsCached_SkipsQuery() {
+        // Arrange
+        when(processedEventRepository.findProcessedIds(anyCollection())).thenReturn(List.of("event-1", "event-2"));
+        deduplicator.filterNew(messages("event-1", "event-2"));
+        clearInvocations(processedEventRepository);
+
+        // Act
+        List<NotificationMessage> fresh = deduplicator.filterNew(messages("event-2", "event-1"));
+
+        // Assert
+        assertTrue(fresh.isEmpty());
+        verify(processedEventRepository, never()).findProcessedIds(anyCollection());
+    }
+
+    @Test
+    void markProcessed_CachesIdsOnlyOnceTransactionCommits() {
+        // Arrange
+        when(processedEventRepository.findProcessedIds(List.of("event-1"))).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        deduplicator.markProcessed(List.of("event-1"));
+        List<NotificationMessage> beforeCommit = deduplicator.filterNew(messages("event-1"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        List<NotificationMessage> afterCommit = deduplicator.filterNew(messages("event-1"));
+
+        // Assert
+        verify(processedEventRepository).saveAll(argThat(saved -> saved.iterator().next().getEventId().equals("event-1")));
+        assertEquals(List.of("event-1"), eventIds(beforeCommit));
+        assertTrue(afterCommit.isEmpty());
+        verify(processedEventRepository, times(1)).findProcessedIds(anyCollection());
+    }
+
+    @Test
+    void markProcessed_RolledBack_LeavesIdsUncached() {
+        // Arrange
+        when(processedEventRepository.findProcessedIds(List.of("event-1"))).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        deduplicator.markProcessed(List.of("event-1"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        List<NotificationMessage> redelivered = deduplicator.filterNew(messages("event-1"));
+
+        // Assert
+        assertEquals(List.of("event-1"), eventIds(redelivered));
+        verify(processedEventRepository).findProcessedIds(List.of("event-1"));
+    }
+
+    @Test
+    void purge_DeletesIdsOlderThanRetention() {
+        // Arrange
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(processedEventRepository.deleteProcessedBefore(cutoff.capture())).thenReturn(3);
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+
+        // Act
+        deduplicator.purge();
+
+        // Assert
+        LocalDateTime after = LocalDateTime.now().minusDays(7);
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertFalse(cutoff.getValue().isAfter(after));
+    }
+
+    private static List<NotificationMessage> messages(String... eventIds) {
+        return Arrays.stream(eventIds)
+                .map(eventId -> NotificationMessage.builder().eventId(eventId).recipient("alice").build())
+                .toList();
+    }
+
+    private static List<String> eventIds(List<NotificationMessage> messages) {
+        return messages.stream().map(NotificationMessage::getEventId).toList();
+    }
+}
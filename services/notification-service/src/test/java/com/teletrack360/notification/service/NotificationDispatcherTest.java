@@ -0,0 +1,182 @@
+package com.teletrack360.notification.service;
+
+import com.teletrack360.notification.channel.NotificationChannel;
+import com.teletrack360.notification.entity.Notification;
+import com.teletrack360.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationChannel emailChannel;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(emailChannel.getType()).thenReturn("EMAIL");
+        dispatcher = new NotificationDispatcher(notificationRepository, List.of(emailChannel), meterRegistry,
+                1, 10, 3, Duration.ofSeconds(10), Duration.ofMinutes(1), Duration.ofSeconds(30), SEND_TIMEOUT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void backoff_DoublesPerAttemptUpToMaxBackoff() {
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(10), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(40), dispatcher.backoff(3));
+        assertEquals(Duration.ofMinutes(1), dispatcher.backoff(4));
+        // Far past the point where an unbounded shift would overflow
+        assertEquals(Duration.ofMinutes(1), dispatcher.backoff(100));
+    }
+
+    @Test
+    void constructor_SendTimeoutNotShorterThanLease_IsRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new NotificationDispatcher(notificationRepository,
+                List.of(), new SimpleMeterRegistry(), 1, 10, 3, Duration.ofSeconds(10), Duration.ofMinutes(1),
+                Duration.ofSeconds(30), Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void dispatch_UnroutableType_FailsWithoutNextAttempt() {
+        // Arrange
+        Notification fax = notification(1L, "FAX", 0, 4);
+
+        // Act
+        int accepted = dispatcher.dispatch(List.of(fax));
+
+        // Assert
+        assertEquals(0, accepted);
+        verify(notificationRepository).markFailed(1L, 4, 0, "No channel for type FAX", null);
+        verify(notificationRepository, never()).claim(anyLong(), anyInt(), any());
+        assertEquals(1, meterRegistry.get("notification.dispatch.unroutable").counter().count());
+    }
+
+    @Test
+    void deliver_Sent_ClaimsLeaseThenMarksSentUnderClaim() throws Exception {
+        // Arrange
+        Notification notification = notification(1L, "EMAIL", 0, 2);
+        when(notificationRepository.claim(eq(1L), eq(2), any())).thenReturn(1);
+        when(notificationRepository.markSent(eq(1L), eq(3), any())).thenReturn(1);
+
+        // Act
+        dispatcher.dispatch(List.of(notification));
+
+        // Assert
+        verify(notificationRepository, timeout(2000)).markSent(eq(1L), eq(3), any());
+        verify(emailChannel).send(notification, SEND_TIMEOUT);
+        verify(notificationRepository).claim(eq(1L), eq(2), argThat(lease -> lease.isAfter(LocalDateTime.now())));
+    }
+
+    @Test
+    void deliver_ReleasedWhileQueued_SkipsSend() throws Exception {
+        // Arrange
+        Notification stale = notification(1L, "EMAIL", 0, 0);
+        Notification next = notification(2L, "EMAIL", 0, 0);
+        when(notificationRepository.claim(eq(1L), eq(0), any())).thenReturn(0);
+        when(notificationRepository.claim(eq(2L), eq(0), any())).thenReturn(1);
+
+        // Act
+        dispatcher.dispatch(List.of(stale, next));
+
+        // Assert: the single worker has finished with the stale one once the next is recorded
+        verify(notificationRepository, timeout(2000)).markSent(eq(2L), eq(1), any());
+        verify(emailChannel, never()).send(eq(stale), any());
+        verify(notificationRepository, never()).markSent(eq(1L), anyInt(), any());
+        assertEquals(1, meterRegistry.get("notification.dispatch.results")
+                .tag("channel", "EMAIL").tag("result", "superseded").counter().count());
+    }
+
+    @Test
+    void deliver_ChannelFails_SchedulesRetryWithBackoff() throws Exception {
+        // Arrange
+        Notification notification = notification(1L, "EMAIL", 0, 0);
+        when(notificationRepository.claim(eq(1L), eq(0), any())).thenReturn(1);
+        doThrow(new IllegalStateException("smtp down")).when(emailChannel).send(notification, SEND_TIMEOUT);
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        dispatcher.dispatch(List.of(notification));
+
+        // Assert
+        verify(notificationRepository, timeout(2000)).markFailed(eq(1L), eq(1), eq(1), contains("smtp down"),
+                argThat(next -> !next.isBefore(before.plusSeconds(10)) && next.isBefore(before.plusSeconds(20))));
+    }
+
+    @Test
+    void deliver_LastAttemptFails_GivesUpWithoutNextAttempt() throws Exception {
+        // Arrange
+        Notification notification = notification(1L, "EMAIL", 2, 5);
+        when(notificationRepository.claim(eq(1L), eq(5), any())).thenReturn(1);
+        doThrow(new IllegalStateException("smtp down")).when(emailChannel).send(notification, SEND_TIMEOUT);
+
+        // Act
+        dispatcher.dispatch(List.of(notification));
+
+        // Assert
+        verify(notificationRepository, timeout(2000)).markFailed(eq(1L), eq(6), eq(3), anyString(), isNull());
+        assertEquals(1, meterRegistry.get("notification.dispatch.results")
+                .tag("channel", "EMAIL").tag("result", "exhausted").counter().count());
+    }
+
+    @Test
+    void deliver_RecordingOutcomeFails_WorkerCarriesOn() throws Exception {
+        // Arrange
+        Notification first = notification(1L, "EMAIL", 0, 0);
+        Notification second = notification(2L, "EMAIL", 0, 0);
+        when(notificationRepository.claim(anyLong(), eq(0), any())).thenReturn(1);
+        when(notificationRepository.markSent(eq(1L), eq(1), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        when(notificationRepository.markSent(eq(2L), eq(1), any())).thenReturn(1);
+
+        // Act
+        dispatcher.dispatch(List.of(first, second));
+
+        // Assert
+        verify(notificationRepository, timeout(2000)).markSent(eq(2L), eq(1), any());
+        verify(emailChannel).send(first, SEND_TIMEOUT);
+        verify(emailChannel).send(second, SEND_TIMEOUT);
+    }
+
+    private static Notification notification(Long id, String type, int retryCount, int leaseVersion) {
+        return Notification.builder()
+                .id(id)
+                .type(type)
+                .recipient("alice")
+                .subject("Incident Assigned")
+                .status("PENDING")
+                .createdAt(LocalDateTime.now())
+                .retryCount(retryCount)
+                .leaseVersion(leaseVersion)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.teletrack360.notification.service;
+
+import com.teletrack360.notification.entity.Notification;
+import com.teletrack360.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetrySweeperTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDateTime leaseExpiry = LocalDateTime.of(2024, 1, 1, 12, 0, 30);
+
+    private NotificationRetrySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new NotificationRetrySweeper(notificationRepository, notificationDispatcher,
+                new TransactionTemplate(transactionManager), 2);
+        when(notificationDispatcher.getMaxAttempts()).thenReturn(5);
+    }
+
+    @Test
+    void sweep_ClaimedRows_AreReleasedWithNewLeaseAndVersion() {
+        // Arrange
+        Notification due = notification(1L, 3);
+        when(notificationDispatcher.leaseExpiry()).thenReturn(leaseExpiry);
+        when(notificationRepository.lockDueForRetry(any(), eq(5), eq(2))).thenReturn(List.of(due));
+        when(notificationDispatcher.dispatch(List.of(due))).thenReturn(1);
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        assertEquals(leaseExpiry, due.getNextAttemptAt());
+        // A worker still queued from the earlier dispatch holds version 3 and loses its claim
+        assertEquals(4, due.getLeaseVersion());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void sweep_FullBatchesAllAccepted_KeepsClaimingUntilShortBatch() {
+        // Arrange
+        when(notificationDispatcher.leaseExpiry()).thenReturn(leaseExpiry);
+        when(notificationRepository.lockDueForRetry(any(), eq(5), eq(2))).thenReturn(
+                List.of(notification(1L, 0), notification(2L, 0)),
+                List.of(notification(3L, 0), notification(4L, 0)),
+                List.of(notification(5L, 0)));
+        when(notificationDispatcher.dispatch(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        verify(notificationRepository, times(3)).lockDueForRetry(any(), anyInt(), anyInt());
+        verify(notificationDispatcher, times(3)).dispatch(anyList());
+    }
+
+    @Test
+    void sweep_QueuesFull_StopsAfterPartiallyAcceptedBatch() {
+        // Arrange
+        when(notificationDispatcher.leaseExpiry()).thenReturn(leaseExpiry);
+        when(notificationRepository.lockDueForRetry(any(), eq(5), eq(2)))
+                .thenReturn(List.of(notification(1L, 0), notification(2L, 0)));
+        when(notificationDispatcher.dispatch(anyList())).thenReturn(1);
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        verify(notificationRepository, times(1)).lockDueForRetry(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void sweep_NothingDue_DispatchesNothing() {
+        // Arrange
+        when(notificationRepository.lockDueForRetry(any(), eq(5), eq(2))).thenReturn(List.of());
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        verify(notificationDispatcher, never()).dispatch(anyList());
+    }
+
+    private static Notification notification(Long id, int leaseVersion) {
+        return Notification.builder()
+                .id(id)
+                .type("EMAIL")
+                .recipient("alice")
+                .status("FAILED")
+                .createdAt(LocalDateTime.now())
+                .retryCount(1)
+                .leaseVersion(leaseVersion)
+                .build();
+    }
+}
@@ -2,8 +2,10 @@ package com.teletrack360.reporting;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.kafka.annotation.EnableKafka;
 
 @SpringBootApplication(scanBasePackages = {"com.teletrack360.reporting", "com.teletrack360.common"})
+@EnableKafka
 public class ReportingServiceApplication {
 
     public static void main(String[] args) {
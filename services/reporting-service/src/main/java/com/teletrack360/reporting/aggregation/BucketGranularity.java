@@ -0,0 +1,30 @@
+package com.teletrack360.reporting.aggregation;
+
+/**
+ * Bucket widths and retention of the incident metrics rings
+ */
+public enum BucketGranularity {
+    MINUTE(60_000L, 24 * 60),
+    HOUR(3_600_000L, 30 * 24),
+    DAY(86_400_000L, 366);
+
+    private final long widthMillis;
+    private final int capacity;
+
+    BucketGranularity(long widthMillis, int capacity) {
+        this.widthMillis = widthMillis;
+        this.capacity = capacity;
+    }
+
+    public long getWidthMillis() {
+        return widthMillis;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long align(long epochMillis) {
+        return Math.floorDiv(epochMillis, widthMillis) * widthMillis;
+    }
+}
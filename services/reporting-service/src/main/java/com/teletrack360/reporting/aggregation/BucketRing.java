@@ -0,0 +1,132 @@
+package com.teletrack360.reporting.aggregation;
+
+import com.teletrack360.common.enums.IncidentPriority;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring of time buckets stored in parallel primitive arrays. A slot is
+ * reused once its bucket falls out of the retention window. Not thread-safe.
+ */
+class BucketRing {
+
+    static final int PRIORITIES = IncidentPriority.values().length;
+
+    private final BucketGranularity granularity;
+    private final long[] bucketStart;
+    private final long[] created;
+    private final long[] resolved;
+    private final long[] closed;
+    // Flattened [slot * PRIORITIES + priority] to keep one array per measure
+    private final long[] resolutionMillis;
+    private final long[] resolutionCount;
+
+    BucketRing(BucketGranularity granularity) {
+        int capacity = granularity.getCapacity();
+        this.granularity = granularity;
+        this.bucketStart = new long[capacity];
+        this.created = new long[capacity];
+        this.resolved = new long[capacity];
+        this.closed = new long[capacity];
+        this.resolutionMillis = new long[capacity * PRIORITIES];
+        this.resolutionCount = new long[capacity * PRIORITIES];
+        Arrays.fill(bucketStart, Long.MIN_VALUE);
+    }
+
+    BucketGranularity getGranularity() {
+        return granularity;
+    }
+
+    void addCreated(long epochMillis, long count) {
+        int slot = slotFor(epochMillis, true);
+        if (slot >= 0) {
+            created[slot] += count;
+        }
+    }
+
+    void addResolved(long epochMillis, long count) {
+        int slot = slotFor(epochMillis, true);
+        if (slot >= 0) {
+            resolved[slot] += count;
+        }
+    }
+
+    void addClosed(long epochMillis, long count) {
+        int slot = slotFor(epochMillis, true);
+        if (slot >= 0) {
+            closed[slot] += count;
+        }
+    }
+
+    void addResolutionTime(long epochMillis, int priority, long millis, long count) {
+        int slot = slotFor(epochMillis, true);
+        if (slot >= 0) {
+            resolutionMillis[slot * PRIORITIES + priority] += millis;
+            resolutionCount[slot * PRIORITIES + priority] += count;
+        }
+    }
+
+    /**
+     * Adds every measure of the bucket containing {@code epochMillis} into {@code target}.
+     */
+    void rollInto(long epochMillis, BucketRing target) {
+        int slot = slotFor(epochMillis, false);
+        if (slot < 0) {
+            return;
+        }
+        long start = bucketStart[slot];
+        target.addCreated(start, created[slot]);
+        target.addResolved(start, resolved[slot]);
+        target.addClosed(start, closed[slot]);
+        for (int p = 0; p < PRIORITIES; p++) {
+            long count = resolutionCount[slot * PRIORITIES + p];
+            if (count > 0) {
+                target.addResolutionTime(start, p, resolutionMillis[slot * PRIORITIES + p], count);
+            }
+        }
+    }
+
+    /**
+     * Copies the bucket containing {@code epochMillis} into {@code out} as
+     * [created, resolved, closed, millis(p0), count(p0), millis(p1), count(p1), ...].
+     * Returns false when the bucket is empty or no longer retained.
+     */
+    boolean read(long epochMillis, long[] out) {
+        Arrays.fill(out, 0L);
+        int slot = slotFor(epochMillis, false);
+        if (slot < 0) {
+            return false;
+        }
+        out[0] = created[slot];
+        out[1] = resolved[slot];
+        out[2] = closed[slot];
+        for (int p = 0; p < PRIORITIES; p++) {
+            out[3 + p * 2] = resolutionMillis[slot * PRIORITIES + p];
+            out[4 + p * 2] = resolutionCount[slot * PRIORITIES + p];
+        }
+        return true;
+    }
+
+    static int measureWidth() {
+        return 3 + PRIORITIES * 2;
+    }
+
+    private int slotFor(long epochMillis, boolean create) {
+        long start = granularity.align(epochMillis);
+        int slot = (int) Math.floorMod(start / granularity.getWidthMillis(), (long) bucketStart.length);
+        if (bucketStart[slot] == start) {
+            return slot;
+        }
+        if (!create || start < bucketStart[slot]) {
+            // Never there, or older than what the slot already holds
+            return -1;
+        }
+        bucketStart[slot] = start;
+        created[slot] = 0L;
+        resolved[slot] = 0L;
+        closed[slot] = 0L;
+        Arrays.fill(resolutionMillis, slot * PRIORITIES, (slot + 1) * PRIORITIES, 0L);
+        Arrays.fill(resolutionCount, slot * PRIORITIES, (slot + 1) * PRIORITIES, 0L);
+        return slot;
+    }
+}
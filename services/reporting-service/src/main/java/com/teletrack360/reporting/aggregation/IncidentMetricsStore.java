@@ -0,0 +1,139 @@
+package com.teletrack360.reporting.aggregation;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.reporting.dto.IncidentTimeSeriesReport;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time-bucketed incident metrics. Writes land in the minute ring; whenever a newer
+ * minute starts, the previous one is rolled into the hour and day rings. Writes for
+ * minutes that were already rolled go straight to all three rings.
+ */
+@Component
+public class IncidentMetricsStore {
+
+    private static final IncidentPriority[] PRIORITIES = IncidentPriority.values();
+
+    private final BucketRing minutes = new BucketRing(BucketGranularity.MINUTE);
+    private final BucketRing hours = new BucketRing(BucketGranularity.HOUR);
+    private final BucketRing days = new BucketRing(BucketGranularity.DAY);
+
+    private long headMinute = Long.MIN_VALUE;
+
+    public synchronized void recordCreated(long epochMillis) {
+        for (BucketRing ring : ringsFor(epochMillis)) {
+            ring.addCreated(epochMillis, 1L);
+        }
+    }
+
+    public synchronized void recordResolved(long epochMillis) {
+        for (BucketRing ring : ringsFor(epochMillis)) {
+            ring.addResolved(epochMillis, 1L);
+        }
+    }
+
+    public synchronized void recordClosed(long epochMillis) {
+        for (BucketRing ring : ringsFor(epochMillis)) {
+            ring.addClosed(epochMillis, 1L);
+        }
+    }
+
+    public synchronized void recordResolutionTime(long epochMillis, IncidentPriority priority, long resolutionMillis) {
+        for (BucketRing ring : ringsFor(epochMillis)) {
+            ring.addResolutionTime(epochMillis, priority.ordinal(), resolutionMillis, 1L);
+        }
+    }
+
+    /**
+     * Returns the buckets between {@code from} and {@code to} (inclusive), capped at the
+     * retention of the requested granularity.
+     */
+    public synchronized IncidentTimeSeriesReport query(BucketGranularity granularity, long from, long to) {
+        BucketRing ring = ringFor(granularity);
+        long width = granularity.getWidthMillis();
+        long first = Math.max(granularity.align(from), granularity.align(to) - (granularity.getCapacity() - 1) * width);
+        long[] measures = new long[BucketRing.measureWidth()];
+        long[] head = new long[BucketRing.measureWidth()];
+        boolean headPending = granularity != BucketGranularity.MINUTE
+                && headMinute != Long.MIN_VALUE
+                && minutes.read(headMinute, head);
+
+        List<IncidentTimeSeriesReport.Bucket> buckets = new ArrayList<>();
+        for (long start = first; start <= to; start += width) {
+            ring.read(start, measures);
+            if (headPending && granularity.align(headMinute) == start) {
+                for (int i = 0; i < measures.length; i++) {
+                    measures[i] += head[i];
+                }
+            }
+            buckets.add(toBucket(start, measures));
+        }
+
+        return IncidentTimeSeriesReport.builder()
+                .granularity(granularity.name())
+                .from(format(first))
+                .to(format(to))
+                .buckets(buckets)
+                .build();
+    }
+
+    /**
+     * Latest minute that received data, or {@code Long.MIN_VALUE} when empty.
+     */
+    public synchronized long getHeadMinute() {
+        return headMinute;
+    }
+
+    private BucketRing[] ringsFor(long epochMillis) {
+        long minute = BucketGranularity.MINUTE.align(epochMillis);
+        if (minute > headMinute) {
+            if (headMinute != Long.MIN_VALUE) {
+                minutes.rollInto(headMinute, hours);
+                minutes.rollInto(headMinute, days);
+            }
+            headMinute = minute;
+        }
+        return minute == headMinute
+                ? new BucketRing[]{minutes}
+                : new BucketRing[]{minutes, hours, days};
+    }
+
+    private BucketRing ringFor(BucketGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> minutes;
+            case HOUR -> hours;
+            case DAY -> days;
+        };
+    }
+
+    private static IncidentTimeSeriesReport.Bucket toBucket(long start, long[] measures) {
+        Map<IncidentPriority, Double> mttrHours = new EnumMap<>(IncidentPriority.class);
+        for (IncidentPriority priority : PRIORITIES) {
+            long millis = measures[3 + priority.ordinal() * 2];
+            long count = measures[4 + priority.ordinal() * 2];
+            if (count > 0) {
+                mttrHours.put(priority, millis / (double) count / 3_600_000d);
+            }
+        }
+        return IncidentTimeSeriesReport.Bucket.builder()
+                .bucketStart(format(start))
+                .created(measures[0])
+                .resolved(measures[1])
+                .closed(measures[2])
+                .mttrHours(mttrHours)
+                .build();
+    }
+
+    private static String format(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000), 0, ZoneOffset.UTC)
+                .format(DateTimeFormatter.ISO_DATE_TIME);
+    }
+}
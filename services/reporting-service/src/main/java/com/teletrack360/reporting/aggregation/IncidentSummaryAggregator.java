@@ -0,0 +1,186 @@
+package com.teletrack360.reporting.aggregation;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Materialized incident summary built incrementally from the incident event stream.
+ * Events are applied by a single consumer thread; readers only touch atomics.
+ *
+ * <p>A deleted incident leaves the totals, status counts and average resolution time, as
+ * it leaves the incident list. It is kept as a tombstone so that a late event for it does
+ * not count it again. The time-bucketed created and resolved metrics record what happened
+ * and are left as they are.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IncidentSummaryAggregator {
+
+    private static final IncidentStatus[] STATUSES = IncidentStatus.values();
+
+    private final IncidentMetricsStore metricsStore;
+    private final Map<Long, IncidentState> incidents = new ConcurrentHashMap<>();
+    private final AtomicLongArray statusCounts = new AtomicLongArray(STATUSES.length);
+    private final AtomicLong deletedIncidents = new AtomicLong();
+    private final AtomicLong resolutionMillisTotal = new AtomicLong();
+    private final AtomicLong resolutionCount = new AtomicLong();
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicLong lastEventEpochMillis = new AtomicLong(-1L);
+
+    /**
+     * Applies a single incident event. Events for one incident may arrive out of order
+     * across topics, so status changes older than the last applied one are ignored.
+     */
+    public void apply(IncidentEvent event) {
+        IncidentEvent.IncidentEventPayload payload = event.getPayload();
+        if (payload == null || payload.getIncidentId() == null) {
+            log.warn("Skipping incident event without payload: {}", event);
+            return;
+        }
+
+        String eventType = event.getEventType();
+        long eventTime = toEpochMillis(event.getTimestamp());
+        Long incidentId = payload.getIncidentId();
+        IncidentStatus status = payload.getStatus();
+        IncidentPriority priority = payload.getPriority();
+
+        IncidentState state = incidents.get(incidentId);
+        if (state == null) {
+            state = new IncidentState();
+            incidents.put(incidentId, state);
+        }
+
+        if (state.deleted) {
+            markApplied(eventTime);
+            return;
+        }
+        if ("INCIDENT_DELETED".equals(eventType)) {
+            delete(state);
+            markApplied(eventTime);
+            return;
+        }
+
+        if (priority != null) {
+            state.priority = priority;
+        }
+        if ("INCIDENT_CREATED".equals(eventType) && state.createdAt < 0) {
+            state.createdAt = eventTime;
+            metricsStore.recordCreated(eventTime);
+        }
+        if ("INCIDENT_RESOLVED".equals(eventType)) {
+            state.resolvedAt = eventTime;
+            metricsStore.recordResolved(eventTime);
+        }
+        if (status != null && eventTime >= state.lastEventAt) {
+            if (status == IncidentStatus.CLOSED && state.status != IncidentStatus.CLOSED) {
+                metricsStore.recordClosed(eventTime);
+            }
+            moveStatus(state.status, status);
+            state.status = status;
+            state.lastEventAt = eventTime;
+        }
+        accumulateResolution(state);
+        markApplied(eventTime);
+    }
+
+    public long getTotalIncidents() {
+        return incidents.size() - deletedIncidents.get();
+    }
+
+    public long getCount(IncidentStatus status) {
+        return statusCounts.get(status.ordinal());
+    }
+
+    public Double getAverageResolutionTimeHours() {
+        long count = resolutionCount.get();
+        if (count == 0) {
+            return 0.0;
+        }
+        return resolutionMillisTotal.get() / (double) count / 3_600_000d;
+    }
+
+    public long getEventsApplied() {
+        return eventsApplied.get();
+    }
+
+    public LocalDateTime getLastEventAt() {
+        long millis = lastEventEpochMillis.get();
+        return millis < 0 ? null : LocalDateTime.ofEpochSecond(
+                Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private void markApplied(long eventTime) {
+        eventsApplied.incrementAndGet();
+        lastEventEpochMillis.accumulateAndGet(eventTime, Math::max);
+    }
+
+    private void delete(IncidentState state) {
+        state.deleted = true;
+        deletedIncidents.incrementAndGet();
+        if (state.status != null) {
+            statusCounts.decrementAndGet(state.status.ordinal());
+        }
+        if (state.countedResolution >= 0) {
+            resolutionCount.decrementAndGet();
+            resolutionMillisTotal.addAndGet(-state.countedResolution);
+        }
+    }
+
+    private void moveStatus(IncidentStatus from, IncidentStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            statusCounts.decrementAndGet(from.ordinal());
+        }
+        statusCounts.incrementAndGet(to.ordinal());
+    }
+
+    private void accumulateResolution(IncidentState state) {
+        if (state.createdAt < 0 || state.resolvedAt < 0) {
+            return;
+        }
+        long duration = Math.max(0L, state.resolvedAt - state.createdAt);
+        if (state.countedResolution < 0) {
+            resolutionCount.incrementAndGet();
+        } else {
+            resolutionMillisTotal.addAndGet(-state.countedResolution);
+        }
+        resolutionMillisTotal.addAndGet(duration);
+        state.countedResolution = duration;
+
+        if (state.priority != null && state.recordedResolvedAt != state.resolvedAt) {
+            metricsStore.recordResolutionTime(state.resolvedAt, state.priority, duration);
+            state.recordedResolvedAt = state.resolvedAt;
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp != null
+                ? timestamp.toInstant(ZoneOffset.UTC).toEpochMilli()
+                : System.currentTimeMillis();
+    }
+
+    private static final class IncidentState {
+        private IncidentStatus status;
+        private IncidentPriority priority;
+        private long lastEventAt = Long.MIN_VALUE;
+        private long createdAt = -1L;
+        private long resolvedAt = -1L;
+        private long countedResolution = -1L;
+        private long recordedResolvedAt = -1L;
+        private boolean deleted;
+    }
+}
@@ -0,0 +1,96 @@
+package com.teletrack360.reporting.consumer;
+
+import com.teletrack360.common.event.IncidentEvent;
+import com.teletrack360.reporting.aggregation.IncidentSummaryAggregator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feeds the in-memory summary from the incident event topics ({@code incident.events.topics}). State lives only in memory, so
+ * every partition is replayed from the beginning the first time it is assigned, and
+ * records at or below the last applied offset are skipped after a rebalance.
+ */
+@Component
+@Slf4j
+public class IncidentEventConsumer implements ConsumerSeekAware {
+
+    private final IncidentSummaryAggregator aggregator;
+    private final Map<TopicPartition, Long> appliedOffsets = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> partitionLag = new ConcurrentHashMap<>();
+
+    public IncidentEventConsumer(IncidentSummaryAggregator aggregator, MeterRegistry meterRegistry) {
+        this.aggregator = aggregator;
+        Gauge.builder("reporting.aggregation.lag", this, IncidentEventConsumer::getConsumerLag)
+                .description("Records the summary is behind the incident topics")
+                .register(meterRegistry);
+        Gauge.builder("reporting.aggregation.events", aggregator, IncidentSummaryAggregator::getEventsApplied)
+                .description("Incident events applied to the summary")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            topics = "#{'${incident.events.topics:incident-events}'.split(',')}",
+            groupId = "${reporting.aggregation.group-id}"
+    )
+    public void handleIncidentEvent(ConsumerRecord<String, IncidentEvent> record, Consumer<?, ?> consumer) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        Long applied = appliedOffsets.get(partition);
+
+        if (applied == null || record.offset() > applied) {
+            try {
+                if (record.value() != null) {
+                    aggregator.apply(record.value());
+                }
+            } catch (Exception e) {
+                log.error("Error applying {} event at offset {}", record.topic(), record.offset(), e);
+            }
+            appliedOffsets.put(partition, record.offset());
+        }
+
+        OptionalLong lag = consumer.currentLag(partition);
+        if (lag.isPresent()) {
+            partitionLag.put(partition, lag.getAsLong());
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        for (TopicPartition partition : assignments.keySet()) {
+            Long applied = appliedOffsets.get(partition);
+            if (applied == null) {
+                log.info("Replaying {} from the beginning", partition);
+                callback.seekToBeginning(partition.topic(), partition.partition());
+            } else {
+                callback.seek(partition.topic(), partition.partition(), applied + 1);
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        partitions.forEach(partitionLag::remove);
+    }
+
+    /**
+     * Total records between the last applied event and the head of every assigned partition.
+     */
+    public long getConsumerLag() {
+        return partitionLag.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public boolean isCaughtUp() {
+        return !appliedOffsets.isEmpty() && getConsumerLag() == 0;
+    }
+}
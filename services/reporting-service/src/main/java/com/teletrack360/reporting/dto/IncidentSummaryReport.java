@@ -16,5 +16,9 @@ public class IncidentSummaryReport {
     private Long resolvedIncidents;
     private Long closedIncidents;
     private Double averageResolutionTimeHours;
+    private Long eventsProcessed;
+    private Long consumerLag;
+    private Boolean caughtUp;
+    private String lastEventAt;
     private String reportGeneratedAt;
 }
@@ -0,0 +1,33 @@
+package com.teletrack360.reporting.dto;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentTimeSeriesReport {
+    private String granularity;
+    private String from;
+    private String to;
+    private List<Bucket> buckets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private String bucketStart;
+        private Long created;
+        private Long resolved;
+        private Long closed;
+        private Map<IncidentPriority, Double> mttrHours;
+    }
+}
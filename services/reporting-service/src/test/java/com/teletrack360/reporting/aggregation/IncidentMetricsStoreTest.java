@@ -0,0 +1,73 @@
+package com.teletrack360.reporting.aggregation;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.reporting.dto.IncidentTimeSeriesReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncidentMetricsStoreTest {
+
+    private IncidentMetricsStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IncidentMetricsStore();
+    }
+
+    @Test
+    void query_Hour_IncludesRolledAndHeadMinutes() {
+        // Arrange
+        store.recordCreated(millis("2024-01-01T10:05:00"));
+        store.recordCreated(millis("2024-01-01T10:20:00"));
+        store.recordResolved(millis("2024-01-01T10:45:00"));
+        store.recordResolutionTime(millis("2024-01-01T10:45:00"), IncidentPriority.HIGH, 3_600_000L);
+
+        // Act
+        IncidentTimeSeriesReport report = store.query(BucketGranularity.HOUR,
+                millis("2024-01-01T10:00:00"), millis("2024-01-01T10:00:00"));
+
+        // Assert
+        assertEquals(1, report.getBuckets().size());
+        IncidentTimeSeriesReport.Bucket bucket = report.getBuckets().get(0);
+        assertEquals(2L, bucket.getCreated());
+        assertEquals(1L, bucket.getResolved());
+        assertEquals(1.0, bucket.getMttrHours().get(IncidentPriority.HIGH), 0.0001);
+    }
+
+    @Test
+    void record_LateEvent_LandsInEveryGranularity() {
+        // Arrange
+        store.recordCreated(millis("2024-01-01T12:00:00"));
+        store.recordClosed(millis("2024-01-01T09:30:00"));
+
+        // Act
+        IncidentTimeSeriesReport minutes = store.query(BucketGranularity.MINUTE,
+                millis("2024-01-01T09:30:00"), millis("2024-01-01T09:30:00"));
+        IncidentTimeSeriesReport days = store.query(BucketGranularity.DAY,
+                millis("2024-01-01T00:00:00"), millis("2024-01-01T00:00:00"));
+
+        // Assert
+        assertEquals(1L, minutes.getBuckets().get(0).getClosed());
+        assertEquals(1L, days.getBuckets().get(0).getClosed());
+        assertEquals(1L, days.getBuckets().get(0).getCreated());
+    }
+
+    @Test
+    void query_RangeBeyondRetention_IsCapped() {
+        // Act
+        IncidentTimeSeriesReport report = store.query(BucketGranularity.MINUTE,
+                millis("2024-01-01T00:00:00"), millis("2024-01-10T00:00:00"));
+
+        // Assert
+        assertEquals(BucketGranularity.MINUTE.getCapacity(), report.getBuckets().size());
+    }
+
+    private static long millis(String dateTime) {
+        return LocalDateTime.parse(dateTime).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,82 @@
+package com.teletrack360.reporting.aggregation;
+
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncidentSummaryAggregatorTest {
+
+    private IncidentSummaryAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new IncidentSummaryAggregator(new IncidentMetricsStore());
+    }
+
+    @Test
+    void apply_CreateAssignResolve_MovesCountersAndTracksResolutionTime() {
+        // Arrange & Act
+        aggregator.apply(event("INCIDENT_CREATED", 1L, "OPEN", "2024-01-01T10:00:00"));
+        aggregator.apply(event("INCIDENT_CREATED", 2L, "OPEN", "2024-01-01T10:30:00"));
+        aggregator.apply(event("INCIDENT_ASSIGNED", 1L, "IN_PROGRESS", "2024-01-01T11:00:00"));
+        aggregator.apply(event("INCIDENT_RESOLVED", 1L, "RESOLVED", "2024-01-01T12:00:00"));
+
+        // Assert
+        assertEquals(2, aggregator.getTotalIncidents());
+        assertEquals(1, aggregator.getCount(IncidentStatus.OPEN));
+        assertEquals(0, aggregator.getCount(IncidentStatus.IN_PROGRESS));
+        assertEquals(1, aggregator.getCount(IncidentStatus.RESOLVED));
+        assertEquals(2.0, aggregator.getAverageResolutionTimeHours(), 0.0001);
+        assertEquals(4, aggregator.getEventsApplied());
+    }
+
+    @Test
+    void apply_OutOfOrderAcrossTopics_KeepsLatestStatus() {
+        // Arrange & Act
+        aggregator.apply(event("INCIDENT_RESOLVED", 1L, "RESOLVED", "2024-01-01T14:00:00"));
+        aggregator.apply(event("INCIDENT_CREATED", 1L, "OPEN", "2024-01-01T10:00:00"));
+
+        // Assert
+        assertEquals(1, aggregator.getTotalIncidents());
+        assertEquals(0, aggregator.getCount(IncidentStatus.OPEN));
+        assertEquals(1, aggregator.getCount(IncidentStatus.RESOLVED));
+        assertEquals(4.0, aggregator.getAverageResolutionTimeHours(), 0.0001);
+    }
+
+    @Test
+    void apply_Deleted_LeavesCountsAndIgnoresLateEvents() {
+        // Arrange
+        aggregator.apply(event("INCIDENT_CREATED", 1L, "OPEN", "2024-01-01T10:00:00"));
+        aggregator.apply(event("INCIDENT_RESOLVED", 1L, "RESOLVED", "2024-01-01T12:00:00"));
+        aggregator.apply(event("INCIDENT_CREATED", 2L, "OPEN", "2024-01-01T10:00:00"));
+        aggregator.apply(event("INCIDENT_RESOLVED", 2L, "RESOLVED", "2024-01-01T14:00:00"));
+
+        // Act
+        aggregator.apply(event("INCIDENT_DELETED", 1L, "RESOLVED", "2024-01-01T15:00:00"));
+        aggregator.apply(event("INCIDENT_ASSIGNED", 1L, "IN_PROGRESS", "2024-01-01T11:00:00"));
+
+        // Assert
+        assertEquals(1, aggregator.getTotalIncidents());
+        assertEquals(1, aggregator.getCount(IncidentStatus.RESOLVED));
+        assertEquals(0, aggregator.getCount(IncidentStatus.IN_PROGRESS));
+        assertEquals(4.0, aggregator.getAverageResolutionTimeHours(), 0.0001);
+        assertEquals(6, aggregator.getEventsApplied());
+    }
+
+    private static IncidentEvent event(String eventType, Long incidentId, String status, String timestamp) {
+        return IncidentEvent.builder()
+                .eventId(eventType + "-" + incidentId)
+                .eventType(eventType)
+                .timestamp(LocalDateTime.parse(timestamp))
+                .payload(IncidentEvent.IncidentEventPayload.builder()
+                        .incidentId(incidentId)
+                        .status(IncidentStatus.valueOf(status))
+                        .build())
+                .build();
+    }
+}
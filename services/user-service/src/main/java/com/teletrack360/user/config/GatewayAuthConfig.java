@@ -0,0 +1,15 @@
+package com.teletrack360.user.config;
+
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GatewayAuthConfig {
+    
+    @Bean
+    public GatewayAuthHeaders gatewayAuthHeaders(@Value("${jwt.secret}") String secret) {
+        return new GatewayAuthHeaders(secret);
+    }
+}
@@ -1,7 +1,10 @@
 package com.teletrack360.user.filter;
 
+import com.teletrack360.common.security.GatewayAuthHeaders;
+import com.teletrack360.common.security.GatewayAuthentication;
 import com.teletrack360.common.util.MDCUtil;
 import com.teletrack360.user.security.JwtService;
+import com.teletrack360.user.security.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final GatewayAuthHeaders gatewayAuthHeaders;
     
     @Override
     protected void doFilterInternal(
@@ -34,9 +38,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         
+        // Trusts the identity the gateway verified, skipping token parsing and the user lookup
+        if (GatewayAuthentication.authenticate(gatewayAuthHeaders, request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -46,12 +55,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            username = jwtService.extractUsername(jwt);
+            // Signature and expiry are verified here once; the result is reused below
+            VerifiedToken token = jwtService.parseToken(jwt).orElse(null);
+            String username = token != null ? token.getUsername() : null;
             
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 
-                if (jwtService.validateToken(jwt, userDetails)) {
+                if (userDetails.isEnabled() && jwtService.validateToken(token, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
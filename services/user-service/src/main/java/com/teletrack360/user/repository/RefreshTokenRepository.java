@@ -5,6 +5,7 @@ import com.teletrack360.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -17,9 +18,9 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     
     @Modifying
     @Query("UPDATE RefreshToken rt SET rt.revokedAt = :revokedAt WHERE rt.user = :user AND rt.revokedAt IS NULL")
-    void revokeAllByUser(User user, LocalDateTime revokedAt);
+    void revokeAllByUser(@Param("user") User user, @Param("revokedAt") LocalDateTime revokedAt);
     
     @Modifying
     @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :now")
-    void deleteExpiredTokens(LocalDateTime now);
+    void deleteExpiredTokens(@Param("now") LocalDateTime now);
 }
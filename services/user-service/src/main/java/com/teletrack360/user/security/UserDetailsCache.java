@@ -0,0 +1,87 @@
+package com.teletrack360.user.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of {@link UserDetails} keyed by username.
+ * Callers always receive a copy, because Spring Security erases credentials
+ * on the principal it returns after authentication.
+ *
+ * <p>Entries are futures so that a miss is loaded by the calling thread outside
+ * Caffeine's map lock: a blocking query under that lock would pin the carrier of a
+ * virtual thread. Concurrent lookups of the same username still share one load.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+    
+    private final AsyncCache<String, UserDetails> cache;
+    
+    public UserDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.user-details-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.user-details-cache.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+    
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        CompletableFuture<UserDetails> pending = new CompletableFuture<>();
+        CompletableFuture<UserDetails> entry = cache.get(username, (key, executor) -> pending);
+        if (entry == pending) {
+            try {
+                pending.complete(loader.apply(username));
+            } catch (RuntimeException e) {
+                // Failed futures are dropped from the cache, so the next lookup retries
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return User.withUserDetails(entry.join()).build();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Evicts the entry once the surrounding transaction commits, so a concurrent
+     * lookup cannot re-cache the pre-commit state.
+     */
+    public void evict(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidate(username);
+                }
+            });
+        } else {
+            cache.synchronous().invalidate(username);
+        }
+        log.debug("User details evicted: {}", username);
+    }
+}
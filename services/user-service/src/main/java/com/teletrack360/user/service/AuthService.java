@@ -10,6 +10,7 @@ import com.teletrack360.user.entity.User;
 import com.teletrack360.user.repository.RefreshTokenRepository;
 import com.teletrack360.user.repository.UserRepository;
 import com.teletrack360.user.security.JwtService;
+import com.teletrack360.user.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,6 +35,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final UserDetailsCache userDetailsCache;
     
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -167,6 +169,7 @@ public class AuthService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", username));
         refreshTokenRepository.revokeAllByUser(user, LocalDateTime.now());
+        userDetailsCache.evict(username);
         log.info("User logged out: {}", username);
     }
     
@@ -6,6 +6,7 @@ import com.teletrack360.user.dto.UpdateUserRequest;
 import com.teletrack360.user.dto.UserResponse;
 import com.teletrack360.user.entity.User;
 import com.teletrack360.user.repository.UserRepository;
+import com.teletrack360.user.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
     
     @Transactional(readOnly = true)
     public UserResponse getUserById(Long id) {
@@ -67,6 +69,7 @@ public class UserService {
         }
         
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(updatedUser.getUsername());
         log.info("User updated: {}", updatedUser.getUsername());
         
         return mapToResponse(updatedUser);
@@ -78,6 +81,7 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", id));
         user.setStatus("INACTIVE");
         userRepository.save(user);
+        userDetailsCache.evict(user.getUsername());
         log.info("User deactivated: {}", user.getUsername());
     }
     
@@ -2,9 +2,11 @@ package com.teletrack360.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teletrack360.common.enums.UserRole;
+import com.teletrack360.common.security.GatewayAuthHeaders;
 import com.teletrack360.user.dto.AuthResponse;
 import com.teletrack360.user.dto.RegisterRequest;
 import com.teletrack360.user.dto.UserResponse;
+import com.teletrack360.user.security.JwtService;
 import com.teletrack360.user.service.AuthService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -33,6 +36,15 @@ class AuthControllerTest {
     @MockBean
     private AuthService authService;
     
+    @MockBean
+    private JwtService jwtService;
+    
+    @MockBean
+    private GatewayAuthHeaders gatewayAuthHeaders;
+    
+    @MockBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+    
     private RegisterRequest registerRequest;
     private AuthResponse authResponse;
     
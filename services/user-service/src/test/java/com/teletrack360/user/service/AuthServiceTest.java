@@ -8,6 +8,7 @@ import com.teletrack360.user.entity.User;
 import com.teletrack360.user.repository.RefreshTokenRepository;
 import com.teletrack360.user.repository.UserRepository;
 import com.teletrack360.user.security.JwtService;
+import com.teletrack360.user.security.UserDetailsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,9 +18,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +44,9 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
     
+    @Mock
+    private UserDetailsCache userDetailsCache;
+    
     @InjectMocks
     private AuthService authService;
     
@@ -120,4 +127,17 @@ class AuthServiceTest {
         assertEquals("Email already exists", exception.getMessage());
         verify(userRepository, never()).save(any());
     }
+    
+    @Test
+    void logout_RevokesTokensAndEvictsCachedUserDetails() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        
+        // Act
+        authService.logout("testuser");
+        
+        // Assert
+        verify(refreshTokenRepository).revokeAllByUser(eq(user), any());
+        verify(userDetailsCache).evict("testuser");
+    }
 }
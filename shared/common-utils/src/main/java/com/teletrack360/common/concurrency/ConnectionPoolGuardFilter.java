@@ -0,0 +1,97 @@
+package com.teletrack360.common.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps in-flight requests when Tomcat runs on virtual threads.
+ *
+ * <p>With platform threads the worker pool bounds concurrency; with virtual threads
+ * every accepted request gets a thread, and the excess would queue inside Hikari until
+ * {@code connection-timeout} while holding memory and sockets. The cap is the
+ * connection pool size times {@code virtual-threads.guard.requests-per-connection}.
+ * Requests that cannot get a permit within {@code virtual-threads.guard.acquire-timeout}
+ * are answered with 503 and {@code Retry-After}. Actuator endpoints are never held back.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class ConnectionPoolGuardFilter extends OncePerRequestFilter implements Ordered {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Counter rejected;
+
+    public ConnectionPoolGuardFilter(
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${virtual-threads.guard.requests-per-connection:2}") int requestsPerConnection,
+            @Value("${virtual-threads.guard.acquire-timeout:1s}") Duration acquireTimeout
+    ) {
+        int limit = Math.max(1, poolSize * requestsPerConnection);
+        this.permits = new Semaphore(limit);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.rejected = Counter.builder("virtual.threads.guard.rejected")
+                .description("Requests turned away because the connection pool guard was saturated")
+                .register(meterRegistry);
+        Gauge.builder("virtual.threads.guard.inflight", permits, p -> limit - p.availablePermits())
+                .description("Requests currently holding a connection pool guard permit")
+                .register(meterRegistry);
+        log.info("Limiting in-flight requests to {} ({} pooled connections x {})", limit, poolSize, requestsPerConnection);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    public int getOrder() {
+        // Ahead of the security chain, so a shed request costs no authentication work
+        return Ordered.HIGHEST_PRECEDENCE + 20;
+    }
+}
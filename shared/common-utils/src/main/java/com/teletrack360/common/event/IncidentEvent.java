@@ -1,4 +1,4 @@
-package com.teletrack360.incident.event;
+package com.teletrack360.common.event;
 
 import com.teletrack360.common.enums.IncidentPriority;
 import com.teletrack360.common.enums.IncidentStatus;
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class IncidentEvent {
     
     private String eventId;
-    private String eventType; // INCIDENT_CREATED, INCIDENT_UPDATED, INCIDENT_ASSIGNED, INCIDENT_RESOLVED
+    private String eventType; // INCIDENT_CREATED, INCIDENT_UPDATED, INCIDENT_ASSIGNED, INCIDENT_RESOLVED,
+                              // INCIDENT_CLOSED, INCIDENT_STATUS_CHANGED, INCIDENT_DELETED
     private LocalDateTime timestamp;
     private IncidentEventPayload payload;
     
@@ -0,0 +1,11 @@
+package com.teletrack360.common.exception;
+
+/**
+ * Exception thrown when a change conflicts with the current state of a resource
+ */
+public class ConflictException extends BusinessException {
+    
+    public ConflictException(String message) {
+        super(message, "CONFLICT");
+    }
+}
@@ -0,0 +1,11 @@
+package com.teletrack360.common.exception;
+
+/**
+ * Exception thrown when a conditional request's precondition, such as If-Match, does not hold
+ */
+public class PreconditionFailedException extends BusinessException {
+    
+    public PreconditionFailedException(String message) {
+        super(message, "PRECONDITION_FAILED");
+    }
+}
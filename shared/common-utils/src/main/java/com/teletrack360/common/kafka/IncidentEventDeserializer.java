@@ -0,0 +1,234 @@
+package com.teletrack360.common.kafka;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reads incident events in either encoding into the same {@link IncidentEvent}, so
+ * consumers are unaffected by which one the producer chose.
+ *
+ * <p>Records carrying the {@value IncidentEventSchemas#SCHEMA_HEADER} header are Avro and
+ * are decoded straight into the event, with no generic record or JSON tree in between:
+ * the current schema is read field by field, and older ones are resolved against it.
+ * Anything else is parsed as JSON. Enum symbols this build does not know are read as
+ * null in either encoding.
+ *
+ * <p>When {@value #TYPES_CONFIG} lists event types, a record whose
+ * {@value #EVENT_TYPE_HEADER} header names any other type is returned as null without
+ * its value being decoded. Records without the header are always decoded.
+ */
+public class IncidentEventDeserializer implements Deserializer<IncidentEvent> {
+
+    public static final String EVENT_TYPE_HEADER = "event-type";
+    public static final String TYPES_CONFIG = "incident.events.types";
+
+    private static final TimeConversions.LocalTimestampMicrosConversion LOCAL_TIMESTAMP =
+            new TimeConversions.LocalTimestampMicrosConversion();
+    private static final EventData EVENT_DATA = new EventData();
+    private static final IncidentStatus[] CURRENT_STATUSES = symbols(IncidentStatus.class, "status");
+    private static final IncidentPriority[] CURRENT_PRIORITIES = symbols(IncidentPriority.class, "priority");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL);
+    private final Map<String, GenericDatumReader<IncidentEvent>> readers = new ConcurrentHashMap<>();
+    private Set<String> acceptedTypes = Set.of();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object types = configs.get(TYPES_CONFIG);
+        if (types != null && !types.toString().isBlank()) {
+            acceptedTypes = Arrays.stream(types.toString().split(","))
+                    .map(String::trim)
+                    .filter(type -> !type.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    @Override
+    public IncidentEvent deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public IncidentEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null || !accepts(headers)) {
+            return null;
+        }
+        Header schemaHeader = headers != null ? headers.lastHeader(IncidentEventSchemas.SCHEMA_HEADER) : null;
+        try {
+            if (schemaHeader == null) {
+                return objectMapper.readValue(data, IncidentEvent.class);
+            }
+            String schemaId = new String(schemaHeader.value(), StandardCharsets.UTF_8);
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, null);
+            return IncidentEventSchemas.CURRENT_ID.equals(schemaId)
+                    ? readCurrent(decoder)
+                    : reader(schemaId).read(null, decoder);
+        } catch (IOException | AvroRuntimeException | ClassCastException | IndexOutOfBoundsException e) {
+            throw new SerializationException("Cannot read incident event from " + topic, e);
+        }
+    }
+
+    private boolean accepts(Headers headers) {
+        if (acceptedTypes.isEmpty() || headers == null) {
+            return true;
+        }
+        Header typeHeader = headers.lastHeader(EVENT_TYPE_HEADER);
+        return typeHeader == null || acceptedTypes.contains(new String(typeHeader.value(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads an event written with the current schema field by field, in schema order, as a
+     * generated specific record does when the writer and reader schemas match; there is
+     * nothing to resolve, so the resolving grammar is skipped.
+     */
+    private static IncidentEvent readCurrent(BinaryDecoder in) throws IOException {
+        IncidentEvent event = new IncidentEvent();
+        event.setEventId(in.readString());
+        event.setEventType(in.readString());
+        event.setTimestamp(LOCAL_TIMESTAMP.fromLong(in.readLong(), null, null));
+        IncidentEvent.IncidentEventPayload payload = new IncidentEvent.IncidentEventPayload();
+        payload.setIncidentId(in.readLong());
+        payload.setTitle(readOptionalString(in));
+        payload.setStatus(readOptionalEnum(in, CURRENT_STATUSES));
+        payload.setPriority(readOptionalEnum(in, CURRENT_PRIORITIES));
+        payload.setAssignedTo(readOptionalString(in));
+        payload.setCreatedBy(readOptionalString(in));
+        event.setPayload(payload);
+        return event;
+    }
+
+    // Optional fields are ["null", type] unions
+    private static String readOptionalString(BinaryDecoder in) throws IOException {
+        return in.readIndex() == 0 ? null : in.readString();
+    }
+
+    private static <E extends Enum<E>> E readOptionalEnum(BinaryDecoder in, E[] symbols) throws IOException {
+        return in.readIndex() == 0 ? null : symbols[in.readEnum()];
+    }
+
+    private GenericDatumReader<IncidentEvent> reader(String schemaId) {
+        return readers.computeIfAbsent(schemaId, id -> {
+            Schema writerSchema = IncidentEventSchemas.forId(id);
+            if (writerSchema == null) {
+                throw new SerializationException("Unknown incident event schema " + id);
+            }
+            return resolvingReader(writerSchema);
+        });
+    }
+
+    static GenericDatumReader<IncidentEvent> resolvingReader(Schema writerSchema) {
+        return new GenericDatumReader<>(writerSchema, IncidentEventSchemas.current(), EVENT_DATA) {
+            @Override
+            protected Class<?> findStringClass(Schema schema) {
+                return String.class;
+            }
+        };
+    }
+
+    /**
+     * The constant for each symbol of the current schema's enum, by symbol index; null for
+     * a symbol this build has no constant for
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> E[] symbols(Class<E> type, String field) {
+        Schema union = IncidentEventSchemas.current().getField("payload").schema().getField(field).schema();
+        List<String> names = union.getTypes().get(1).getEnumSymbols();
+        E[] symbols = (E[]) Array.newInstance(type, names.size());
+        for (int i = 0; i < names.size(); i++) {
+            symbols[i] = EventData.valueOf(type, names.get(i));
+        }
+        return symbols;
+    }
+
+    /**
+     * Builds events and payloads in place of generic records as the reader resolves each
+     * field, the way generated specific records do. Timestamps arrive as
+     * {@link LocalDateTime} through the logical type conversion.
+     */
+    private static final class EventData extends GenericData {
+
+        EventData() {
+            addLogicalTypeConversion(LOCAL_TIMESTAMP);
+        }
+
+        @Override
+        public Object newRecord(Object old, Schema schema) {
+            return switch (schema.getName()) {
+                case "IncidentEvent" -> new IncidentEvent();
+                case "IncidentEventPayload" -> new IncidentEvent.IncidentEventPayload();
+                default -> super.newRecord(old, schema);
+            };
+        }
+
+        @Override
+        public void setField(Object record, String name, int position, Object value) {
+            if (record instanceof IncidentEvent event) {
+                switch (name) {
+                    case "eventId" -> event.setEventId((String) value);
+                    case "eventType" -> event.setEventType((String) value);
+                    case "timestamp" -> event.setTimestamp((LocalDateTime) value);
+                    case "payload" -> event.setPayload((IncidentEvent.IncidentEventPayload) value);
+                    default -> { }
+                }
+            } else if (record instanceof IncidentEvent.IncidentEventPayload payload) {
+                switch (name) {
+                    case "incidentId" -> payload.setIncidentId((Long) value);
+                    case "title" -> payload.setTitle((String) value);
+                    case "status" -> payload.setStatus((IncidentStatus) value);
+                    case "priority" -> payload.setPriority((IncidentPriority) value);
+                    case "assignedTo" -> payload.setAssignedTo((String) value);
+                    case "createdBy" -> payload.setCreatedBy((String) value);
+                    default -> { }
+                }
+            } else {
+                super.setField(record, name, position, value);
+            }
+        }
+
+        @Override
+        public Object createEnum(String symbol, Schema schema) {
+            return switch (schema.getName()) {
+                case "IncidentStatus" -> valueOf(IncidentStatus.class, symbol);
+                case "IncidentPriority" -> valueOf(IncidentPriority.class, symbol);
+                default -> super.createEnum(symbol, schema);
+            };
+        }
+
+        private static <E extends Enum<E>> E valueOf(Class<E> type, String symbol) {
+            try {
+                return Enum.valueOf(type, symbol);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
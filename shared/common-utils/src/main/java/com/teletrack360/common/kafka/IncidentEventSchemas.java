@@ -0,0 +1,60 @@
+package com.teletrack360.common.kafka;
+
+import org.apache.avro.Schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded registry of the Avro schemas incident events have been written with.
+ *
+ * <p>A binary event names its writer schema in the {@value #SCHEMA_HEADER} record header;
+ * an event without the header is JSON. Schemas are never changed once published: a new
+ * version is added under a new id alongside the old one, and readers resolve every older
+ * version against {@link #CURRENT_ID}.
+ */
+public class IncidentEventSchemas {
+
+    public static final String SCHEMA_HEADER = "event-schema";
+    public static final String CURRENT_ID = "incident-event-v1";
+
+    private static final Map<String, Schema> SCHEMAS = Map.of(
+            CURRENT_ID, load("schemas/incident-event-v1.avsc")
+    );
+
+    private IncidentEventSchemas() {
+        // Utility class
+    }
+
+    public static Schema current() {
+        return SCHEMAS.get(CURRENT_ID);
+    }
+
+    /**
+     * The schema registered under {@code id}, or null if this build does not know it
+     */
+    public static Schema forId(String id) {
+        return SCHEMAS.get(id);
+    }
+
+    public static long toMicros(LocalDateTime timestamp) {
+        return TimeUnit.SECONDS.toMicros(timestamp.toEpochSecond(ZoneOffset.UTC))
+                + TimeUnit.NANOSECONDS.toMicros(timestamp.getNano());
+    }
+
+    private static Schema load(String resource) {
+        try (InputStream in = IncidentEventSchemas.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing incident event schema " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read incident event schema " + resource, e);
+        }
+    }
+}
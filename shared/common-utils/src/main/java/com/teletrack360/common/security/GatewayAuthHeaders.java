@@ -0,0 +1,67 @@
+package com.teletrack360.common.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Identity headers the API gateway forwards after verifying a JWT.
+ *
+ * <p>The headers are signed with an HMAC over username, roles and token expiry using the
+ * shared {@code jwt.secret}, so a downstream service can trust them with a single MAC
+ * computation instead of re-parsing the token and loading the user from the database.
+ */
+public class GatewayAuthHeaders {
+
+    public static final String USERNAME = "X-Auth-Username";
+    public static final String ROLES = "X-Auth-Roles";
+    public static final String EXPIRES = "X-Auth-Expires";
+    public static final String SIGNATURE = "X-Auth-Signature";
+
+    public static final List<String> ALL = List.of(USERNAME, ROLES, EXPIRES, SIGNATURE);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public GatewayAuthHeaders(String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String sign(String username, String roles, long expiresAtMillis) {
+        try {
+            // Mac instances are not thread-safe, so one is created per call
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(
+                    (username + '\n' + roles + '\n' + expiresAtMillis).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    /**
+     * @return true if the signature matches and the underlying token has not expired
+     */
+    public boolean verify(String username, String roles, String expiresAt, String signature) {
+        if (username == null || roles == null || expiresAt == null || signature == null) {
+            return false;
+        }
+        long expiresAtMillis;
+        try {
+            expiresAtMillis = Long.parseLong(expiresAt);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return false;
+        }
+        byte[] expected = sign(username, roles, expiresAtMillis).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,58 @@
+package com.teletrack360.common.security;
+
+import com.teletrack360.common.util.MDCUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Authenticates servlet requests from the {@link GatewayAuthHeaders} the API gateway
+ * forwarded, for the services behind it
+ */
+@Slf4j
+public class GatewayAuthentication {
+
+    private GatewayAuthentication() {
+        // Utility class
+    }
+
+    /**
+     * Puts the forwarded identity in the security context when its signature checks out.
+     *
+     * @return true if the request carried valid gateway identity headers
+     */
+    public static boolean authenticate(GatewayAuthHeaders gatewayAuthHeaders, HttpServletRequest request) {
+        String username = request.getHeader(GatewayAuthHeaders.USERNAME);
+        if (username == null) {
+            return false;
+        }
+        String roles = request.getHeader(GatewayAuthHeaders.ROLES);
+        if (!gatewayAuthHeaders.verify(
+                username,
+                roles,
+                request.getHeader(GatewayAuthHeaders.EXPIRES),
+                request.getHeader(GatewayAuthHeaders.SIGNATURE))) {
+            log.warn("Ignoring gateway identity headers with an invalid signature");
+            return false;
+        }
+
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(roles.split(","))
+                .filter(role -> !role.isBlank())
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(username, null, authorities);
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        // Set MDC for logging
+        MDCUtil.setUsername(username);
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package com.teletrack360.common.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Entity tags computed from the version fields of a resource rather than from its
+ * serialized body, so a conditional GET can be answered without writing the response.
+ *
+ * <p>Tags used only to revalidate GETs should be {@link #weak}: Tomcat does not compress
+ * a response carrying a strong tag, since a strong tag promises byte-identical content.
+ */
+public class ETagUtil {
+    
+    private ETagUtil() {
+        // Utility class
+    }
+    
+    public static String weak(Object... parts) {
+        return "W/\"" + of(parts) + "\"";
+    }
+    
+    public static String of(Object... parts) {
+        StringBuilder key = new StringBuilder();
+        for (Object part : parts) {
+            key.append(part).append('|');
+        }
+        return DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,106 @@
+package com.teletrack360.common.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolGuardFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionPoolGuardFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // One pooled connection, one request per connection: a single permit
+        filter = new ConnectionPoolGuardFilter(meterRegistry, 1, 1, Duration.ofMillis(10));
+    }
+
+    @Test
+    void doFilter_PermitFree_PassesRequestOnAndReleasesPermit() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger inFlightDuringChain = new AtomicInteger(-1);
+        FilterChain chain = (req, res) -> inFlightDuringChain.set((int) inFlight());
+
+        // Act
+        filter.doFilter(request("/api/v1/incidents"), response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals(1, inFlightDuringChain.get());
+        assertEquals(0, inFlight());
+        assertEquals(0, meterRegistry.get("virtual.threads.guard.rejected").counter().count());
+    }
+
+    @Test
+    void doFilter_Saturated_RejectsWith503AndRetryAfter() throws Exception {
+        // Arrange
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        AtomicInteger nestedCalls = new AtomicInteger();
+        // The outer request holds the only permit while a second one arrives
+        FilterChain holdingChain = (req, res) ->
+                filter.doFilter(request("/api/v1/incidents/2"), shed, (r, s) -> nestedCalls.incrementAndGet());
+
+        // Act
+        filter.doFilter(request("/api/v1/incidents/1"), new MockHttpServletResponse(), holdingChain);
+
+        // Assert
+        assertEquals(0, nestedCalls.get());
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get("virtual.threads.guard.rejected").counter().count());
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    void doFilter_ActuatorRequest_BypassesGuard() throws Exception {
+        // Arrange
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        AtomicInteger healthCalls = new AtomicInteger();
+        FilterChain holdingChain = (req, res) ->
+                filter.doFilter(request("/actuator/health"), health, (r, s) -> healthCalls.incrementAndGet());
+
+        // Act
+        filter.doFilter(request("/api/v1/incidents"), new MockHttpServletResponse(), holdingChain);
+
+        // Assert
+        assertEquals(1, healthCalls.get());
+        assertEquals(200, health.getStatus());
+        assertEquals(0, meterRegistry.get("virtual.threads.guard.rejected").counter().count());
+    }
+
+    @Test
+    void doFilter_ChainThrows_StillReleasesPermit() {
+        // Arrange
+        FilterChain failingChain = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        // Act
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request("/api/v1/incidents"), new MockHttpServletResponse(), failingChain));
+
+        // Assert
+        assertEquals(0, inFlight());
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("virtual.threads.guard.inflight").gauge().value();
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRequestURI(uri);
+        return request;
+    }
+}
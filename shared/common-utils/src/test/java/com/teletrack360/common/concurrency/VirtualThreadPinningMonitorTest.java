@@ -0,0 +1,113 @@
+package com.teletrack360.common.concurrency;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(20));
+    }
+
+    @Test
+    void site_SkipsJdkFramesToFirstApplicationFrame() {
+        // Arrange
+        List<RecordedFrame> frames = List.of(
+                frame("jdk.internal.misc.Unsafe", "park", 0),
+                frame("java.util.concurrent.locks.LockSupport", "park", 211),
+                frame("com.teletrack360.incident.service.IncidentService", "createIncident", 87),
+                frame("com.teletrack360.incident.controller.IncidentController", "create", 40));
+
+        // Act
+        String site = VirtualThreadPinningMonitor.site(frames);
+
+        // Assert
+        assertEquals("\tat com.teletrack360.incident.service.IncidentService.createIncident(line 87)", site);
+    }
+
+    @Test
+    void site_DistinguishesCallersBlockedInSameJdkMethod() {
+        // Arrange
+        List<RecordedFrame> fromService = List.of(
+                frame("java.util.concurrent.locks.LockSupport", "park", 211),
+                frame("com.teletrack360.incident.service.IncidentService", "createIncident", 87));
+        List<RecordedFrame> fromWriter = List.of(
+                frame("java.util.concurrent.locks.LockSupport", "park", 211),
+                frame("com.teletrack360.incident.service.IncidentAuditWriter", "flush", 132));
+
+        // Act & Assert
+        assertNotEquals(VirtualThreadPinningMonitor.site(fromService), VirtualThreadPinningMonitor.site(fromWriter));
+    }
+
+    @Test
+    void site_OnlyJdkFrames_FallsBackToTopFrame() {
+        // Arrange
+        List<RecordedFrame> frames = List.of(
+                frame("java.lang.Object", "wait", 0),
+                frame("java.lang.Thread", "run", 1583));
+
+        // Act & Assert
+        assertEquals("\tat java.lang.Object.wait(line 0)", VirtualThreadPinningMonitor.site(frames));
+        assertEquals("unknown", VirtualThreadPinningMonitor.site(List.of()));
+    }
+
+    @Test
+    void onPinned_RecordsEveryEventInTimer() {
+        // Arrange
+        RecordedEvent event = event(Duration.ofMillis(40),
+                frame("java.util.concurrent.locks.LockSupport", "park", 211),
+                frame("com.teletrack360.incident.service.IncidentService", "createIncident", 87));
+
+        // Act
+        monitor.onPinned(event);
+        monitor.onPinned(event);
+        monitor.onPinned(event(Duration.ofMillis(25)));
+
+        // Assert
+        Timer timer = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        assertEquals(3, timer.count());
+        assertEquals(105, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    private static RecordedEvent event(Duration duration, RecordedFrame... frames) {
+        RecordedEvent event = mock(RecordedEvent.class);
+        when(event.getDuration()).thenReturn(duration);
+        if (frames.length > 0) {
+            RecordedStackTrace stackTrace = mock(RecordedStackTrace.class);
+            when(stackTrace.getFrames()).thenReturn(List.of(frames));
+            when(event.getStackTrace()).thenReturn(stackTrace);
+        }
+        return event;
+    }
+
+    private static RecordedFrame frame(String type, String method, int line) {
+        RecordedClass recordedClass = mock(RecordedClass.class);
+        when(recordedClass.getName()).thenReturn(type);
+        RecordedMethod recordedMethod = mock(RecordedMethod.class);
+        when(recordedMethod.getType()).thenReturn(recordedClass);
+        when(recordedMethod.getName()).thenReturn(method);
+        RecordedFrame frame = mock(RecordedFrame.class);
+        when(frame.getMethod()).thenReturn(recordedMethod);
+        when(frame.getLineNumber()).thenReturn(line);
+        return frame;
+    }
+}
@@ -0,0 +1,110 @@
+package com.teletrack360.common.kafka;
+
+import com.teletrack360.common.enums.IncidentPriority;
+import com.teletrack360.common.enums.IncidentStatus;
+import com.teletrack360.common.event.IncidentEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncidentEventDeserializerTest {
+
+    // An older version: no assignee or creator, and a status enum without CLOSED
+    private static final Schema OLDER_SCHEMA = new Schema.Parser().parse("""
+            {"type": "record", "name": "IncidentEvent", "namespace": "com.teletrack360.events.v1", "fields": [
+              {"name": "eventId", "type": "string"},
+              {"name": "eventType", "type": "string"},
+              {"name": "timestamp", "type": {"type": "long", "logicalType": "local-timestamp-micros"}},
+              {"name": "payload", "type": {"type": "record", "name": "IncidentEventPayload", "fields": [
+                {"name": "incidentId", "type": "long"},
+                {"name": "title", "type": ["null", "string"], "default": null},
+                {"name": "status", "type": ["null", {"type": "enum", "name": "IncidentStatus",
+                  "symbols": ["OPEN", "IN_PROGRESS", "RESOLVED"]}], "default": null},
+                {"name": "priority", "type": ["null", {"type": "enum", "name": "IncidentPriority",
+                  "symbols": ["LOW", "MEDIUM", "HIGH", "CRITICAL"]}], "default": null}
+              ]}}
+            ]}""");
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 1, 15, 9, 42, 7, 123_456_000);
+
+    private final IncidentEventDeserializer deserializer = new IncidentEventDeserializer();
+
+    @Test
+    void deserialize_CurrentSchema_MatchesResolvingRead() throws Exception {
+        // Arrange
+        byte[] avro = write(IncidentEventSchemas.current(), "IN_PROGRESS", "network.engineer");
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(IncidentEventSchemas.SCHEMA_HEADER, IncidentEventSchemas.CURRENT_ID.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        IncidentEvent direct = deserializer.deserialize("incident-assigned", headers, avro);
+        IncidentEvent resolved = IncidentEventDeserializer.resolvingReader(IncidentEventSchemas.current())
+                .read(null, DecoderFactory.get().binaryDecoder(avro, null));
+
+        // Assert
+        assertEquals(resolved, direct);
+        assertEquals("event-1", direct.getEventId());
+        assertEquals(TIMESTAMP, direct.getTimestamp());
+        assertEquals(IncidentStatus.IN_PROGRESS, direct.getPayload().getStatus());
+        assertEquals(IncidentPriority.HIGH, direct.getPayload().getPriority());
+        assertEquals("network.engineer", direct.getPayload().getAssignedTo());
+        assertNull(direct.getPayload().getCreatedBy());
+    }
+
+    @Test
+    void resolvingReader_OlderSchema_FillsNewFieldsWithDefaults() throws Exception {
+        // Arrange
+        byte[] avro = write(OLDER_SCHEMA, "RESOLVED", null);
+
+        // Act
+        IncidentEvent event = IncidentEventDeserializer.resolvingReader(OLDER_SCHEMA)
+                .read(null, DecoderFactory.get().binaryDecoder(avro, null));
+
+        // Assert
+        assertEquals("INCIDENT_RESOLVED", event.getEventType());
+        assertEquals(TIMESTAMP, event.getTimestamp());
+        assertEquals(42L, event.getPayload().getIncidentId());
+        assertEquals("Core router packet loss", event.getPayload().getTitle());
+        assertEquals(IncidentStatus.RESOLVED, event.getPayload().getStatus());
+        assertNull(event.getPayload().getAssignedTo());
+    }
+
+    private static byte[] write(Schema schema, String status, String assignedTo) throws IOException {
+        Schema payloadSchema = schema.getField("payload").schema();
+        GenericRecord payload = new GenericData.Record(payloadSchema);
+        payload.put("incidentId", 42L);
+        payload.put("title", "Core router packet loss");
+        payload.put("status", new GenericData.EnumSymbol(
+                payloadSchema.getField("status").schema().getTypes().get(1), status));
+        payload.put("priority", new GenericData.EnumSymbol(
+                payloadSchema.getField("priority").schema().getTypes().get(1), "HIGH"));
+        if (payloadSchema.getField("assignedTo") != null) {
+            payload.put("assignedTo", assignedTo);
+        }
+
+        GenericRecord event = new GenericData.Record(schema);
+        event.put("eventId", "event-1");
+        event.put("eventType", "INCIDENT_RESOLVED");
+        event.put("timestamp", IncidentEventSchemas.toMicros(TIMESTAMP));
+        event.put("payload", payload);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(schema).write(event, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+}